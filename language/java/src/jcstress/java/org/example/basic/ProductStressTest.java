@@ -0,0 +1,129 @@
+package org.example.basic;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+import org.openjdk.jcstress.infra.results.J_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+
+/**
+ * [basic] 락 없음 jcstress 정확성 테스트
+ *
+ * 스레드 풀 기반 ProductConcurrencyTest는 최종 합계만 확인하므로 드문 인터리빙을 잡지 못합니다.
+ * jcstress는 같은 시나리오를 수백만 번 반복하며 관측 가능한 모든 결과를 분류합니다.
+ *
+ * 결과 표기: decrement 성공 여부는 1(성공) / 0(실패)
+ */
+public class ProductStressTest {
+
+    /**
+     * 재고 경계에서의 동시 감소: 재고 1개에 두 스레드가 동시에 1개씩 감소
+     * → 정확히 한 스레드만 성공하고 최종 재고는 0이어야 함
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 0, 0", "0, 1, 0"}, expect = ACCEPTABLE, desc = "정확히 한 스레드만 성공")
+    @Outcome(expect = ACCEPTABLE_INTERESTING, desc = "Race Condition으로 인한 Lost Update / 초과 판매")
+    @State
+    public static class DecrementAtBoundary {
+        private final Product product = new Product(1L, "MacBook", 1L, 2000000L);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = product.decrement(1) ? 1 : 0;
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = product.decrement(1) ? 1 : 0;
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = product.getQuantity();
+        }
+    }
+
+    /**
+     * 동시 증가: 두 스레드가 동시에 1씩 증가 → 최종 재고 2
+     */
+    @JCStressTest
+    @Outcome(id = "2", expect = ACCEPTABLE, desc = "두 증가가 모두 반영됨")
+    @Outcome(expect = ACCEPTABLE_INTERESTING, desc = "Race Condition으로 인한 Lost Update / 초과 판매")
+    @State
+    public static class IncrementIncrement {
+        private final Product product = new Product(1L, "MacBook", 0L, 2000000L);
+
+        @Actor
+        public void actor1() {
+            product.increment(1);
+        }
+
+        @Actor
+        public void actor2() {
+            product.increment(1);
+        }
+
+        @Arbiter
+        public void arbiter(J_Result r) {
+            r.r1 = product.getQuantity();
+        }
+    }
+
+    /**
+     * 증가/감소 경합: 재고 1에서 increment(1)과 decrement(2)가 경합
+     * → 감소가 증가 이후면 성공(최종 0), 이전이면 실패(최종 2)
+     */
+    @JCStressTest
+    @Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "증가 후 감소 성공")
+    @Outcome(id = "0, 2", expect = ACCEPTABLE, desc = "감소가 먼저 실행되어 재고 부족으로 실패")
+    @Outcome(expect = ACCEPTABLE_INTERESTING, desc = "Race Condition으로 인한 Lost Update / 초과 판매")
+    @State
+    public static class IncrementDecrement {
+        private final Product product = new Product(1L, "MacBook", 1L, 2000000L);
+
+        @Actor
+        public void actor1() {
+            product.increment(1);
+        }
+
+        @Actor
+        public void actor2(JJ_Result r) {
+            r.r1 = product.decrement(2) ? 1 : 0;
+        }
+
+        @Arbiter
+        public void arbiter(JJ_Result r) {
+            r.r2 = product.getQuantity();
+        }
+    }
+
+    /**
+     * getQuantity 가시성: 한 스레드가 두 번 증가하는 동안 다른 스레드가 두 번 읽음
+     * → 두 번째 읽기 값이 첫 번째 읽기 값보다 작아지면 안 됨 (일반 필드라 가시성 보장이 없어 값이 역행할 수 있음)
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 0", "0, 1", "0, 2", "1, 1", "1, 2", "2, 2"}, expect = ACCEPTABLE, desc = "증가 순서대로 관측됨")
+    @Outcome(expect = ACCEPTABLE_INTERESTING, desc = "값이 역행하거나 중간 상태가 관측됨")
+    @State
+    public static class QuantityVisibility {
+        private final Product product = new Product(1L, "MacBook", 0L, 2000000L);
+
+        @Actor
+        public void writer() {
+            product.increment(1);
+            product.increment(1);
+        }
+
+        @Actor
+        public void reader(JJ_Result r) {
+            r.r1 = product.getQuantity();
+            r.r2 = product.getQuantity();
+        }
+    }
+}
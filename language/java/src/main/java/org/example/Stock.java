@@ -0,0 +1,63 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 연산 공통 인터페이스
+ *
+ * basic / synchronization / explicitlock / atomic 패키지의 Product가 모두 구현하며,
+ * 동기화 전략과 무관하게 재고 연산을 감싸는 계층(수락 제어 등)에서 사용합니다.
+ */
+public interface Stock {
+
+    /**
+     * 재고 증가
+     */
+    void increment(long quantity);
+
+    /**
+     * 재고 감소 (재고가 충분할 때만 감소)
+     *
+     * @return 감소 성공 여부, 재고 부족 시 false
+     */
+    boolean decrement(long quantity);
+
+    /**
+     * 재고 감소 (결과 코드 반환, 실패 경로에서도 예외/할당 없음)
+     *
+     * @return {@link StockResult#SUCCESS}, {@link StockResult#INSUFFICIENT_STOCK}, {@link StockResult#CONTENDED}
+     */
+    int tryDecrement(long quantity);
+
+    /**
+     * 제한 시간 안에서만 재고 감소 시도 (대기 중 인터럽트 가능)
+     *
+     * 마감을 넘긴 요청이 락을 계속 기다리지 않도록 timeout이 지나면 포기합니다.
+     *
+     * @return {@link StockResult#SUCCESS}, {@link StockResult#INSUFFICIENT_STOCK}, {@link StockResult#TIMED_OUT}
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 제한 시간 안에서만 재고 증가 시도 (대기 중 인터럽트 가능)
+     *
+     * @return {@link StockResult#SUCCESS}, {@link StockResult#TIMED_OUT}
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException;
+
+    long getQuantity();
+
+    /**
+     * 재고 변경 리스너 추가 (같은 상품에 여러 리스너를 등록할 수 있음)
+     */
+    void addStockListener(StockListener listener);
+
+    /**
+     * 재고 변경 리스너 제거 (등록할 때 사용한 객체로 제거하며, 다른 리스너는 유지)
+     *
+     * @return 제거했으면 true, 등록되어 있지 않으면 false
+     */
+    boolean removeStockListener(StockListener listener);
+}
@@ -0,0 +1,13 @@
+package org.example;
+
+/**
+ * 재고 변경 리스너
+ *
+ * Product는 수량이 실제로 바뀐 직후 변경 전/후 수량으로 호출합니다. ({@link Stock#addStockListener})
+ * 쓰기 경로(hot path)에서 호출되므로 구현체는 블로킹하거나 객체를 할당하면 안 됩니다.
+ */
+@FunctionalInterface
+public interface StockListener {
+
+    void onQuantityChanged(long before, long after);
+}
@@ -0,0 +1,57 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 상품 하나에 등록된 재고 변경 리스너 목록 (copy-on-write)
+ *
+ * 변경 알림(쓰기 경로)은 volatile 배열을 읽어 순회하기만 하므로 락과 할당이 없고,
+ * 등록/해제(드묾)만 배열을 복사합니다.
+ * 피드, 집계, 판매 속도 카운터가 같은 상품에 각자 리스너를 붙이고 자기 리스너만 해제할 수 있습니다.
+ */
+public final class StockListeners {
+    private static final StockListener[] EMPTY = new StockListener[0];
+
+    private volatile StockListener[] listeners = EMPTY;
+
+    public synchronized void add(StockListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        StockListener[] current = listeners;
+        StockListener[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = listener;
+        listeners = next;
+    }
+
+    /**
+     * 같은 객체로 등록된 리스너 하나를 제거
+     *
+     * @return 제거했으면 true, 등록되어 있지 않으면 false
+     */
+    public synchronized boolean remove(StockListener listener) {
+        StockListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                StockListener[] next = new StockListener[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                listeners = next.length == 0 ? EMPTY : next;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    /**
+     * 등록된 모든 리스너에 변경 전/후 수량 전달
+     */
+    public void fire(long before, long after) {
+        for (StockListener listener : listeners) {
+            listener.onQuantityChanged(before, after);
+        }
+    }
+}
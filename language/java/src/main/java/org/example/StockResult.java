@@ -0,0 +1,31 @@
+package org.example;
+
+/**
+ * 재고 연산 결과 코드
+ *
+ * 예외나 객체 대신 int 상수를 반환하므로 실패 경로에서도 할당이 없습니다.
+ * boolean과 달리 "재고 부족"과 "경합으로 인한 포기"를 구분할 수 있습니다.
+ */
+public final class StockResult {
+    /** 연산 성공 */
+    public static final int SUCCESS = 0;
+    /** 재고 부족으로 감소 실패 (재시도해도 재고가 늘지 않으면 계속 실패) */
+    public static final int INSUFFICIENT_STOCK = 1;
+    /** 경합으로 재시도 횟수를 모두 소진 (재시도하면 성공할 수 있음) */
+    public static final int CONTENDED = 2;
+    /** 제한 시간 안에 락을 얻지 못해 포기 (재고는 변경되지 않음) */
+    public static final int TIMED_OUT = 3;
+
+    private StockResult() {
+    }
+
+    public static String name(int code) {
+        return switch (code) {
+            case SUCCESS -> "SUCCESS";
+            case INSUFFICIENT_STOCK -> "INSUFFICIENT_STOCK";
+            case CONTENDED -> "CONTENDED";
+            case TIMED_OUT -> "TIMED_OUT";
+            default -> "UNKNOWN(" + code + ")";
+        };
+    }
+}
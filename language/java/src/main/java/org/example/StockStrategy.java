@@ -0,0 +1,39 @@
+package org.example;
+
+/**
+ * 동기화 전략별 Product 생성
+ *
+ * 벤치마크와 서버 등에서 전략을 설정값(이름)으로 선택할 때 사용합니다.
+ */
+public enum StockStrategy {
+    /** 락 없음 - Race Condition 발생 가능 */
+    BASIC {
+        @Override
+        public Stock create(Long id, String name, long quantity, long price) {
+            return new org.example.basic.Product(id, name, quantity, price);
+        }
+    },
+    /** synchronized (암묵적 락) */
+    SYNCHRONIZED {
+        @Override
+        public Stock create(Long id, String name, long quantity, long price) {
+            return new org.example.synchronization.Product(id, name, quantity, price);
+        }
+    },
+    /** ReentrantLock (명시적 락) */
+    EXPLICIT_LOCK {
+        @Override
+        public Stock create(Long id, String name, long quantity, long price) {
+            return new org.example.explicitlock.Product(id, name, quantity, price);
+        }
+    },
+    /** AtomicLong (CAS, Lock-Free) */
+    ATOMIC {
+        @Override
+        public Stock create(Long id, String name, long quantity, long price) {
+            return new org.example.atomic.Product(id, name, quantity, price);
+        }
+    };
+
+    public abstract Stock create(Long id, String name, long quantity, long price);
+}
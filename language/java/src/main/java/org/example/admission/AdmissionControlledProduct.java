@@ -0,0 +1,122 @@
+package org.example.admission;
+
+import org.example.Stock;
+import org.example.StockResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재고 연산 앞단의 수락 제어(Admission Control) + 부하 차단(Load Shedding)
+ *
+ * 500개 스레드가 하나의 synchronized / ReentrantLock Product에 몰리면
+ * 락 대기열이 끝없이 길어져 모든 요청의 지연이 함께 증가합니다.
+ * 이 계층은 상품별 진행 중(in-flight) 연산 수를 적응형 한도({@link AimdLimit}) 이하로 유지하고,
+ * 한도를 넘는 호출은 락을 기다리지 않고 즉시 {@link AdmissionResult#OVERLOADED}로 거절합니다.
+ *
+ * 수락된 연산의 지연(락 대기 + 실행)을 측정하여 한도 조절에 사용하고,
+ * 관측용으로 지연의 지수 이동 평균(EWMA)을 함께 기록합니다.
+ */
+public class AdmissionControlledProduct {
+    private final Stock delegate;
+    private final AimdLimit limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong contendedCount = new AtomicLong();
+    private volatile long averageQueueDelayNanos;
+
+    public AdmissionControlledProduct(Stock delegate, AimdLimit limit) {
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+
+    /**
+     * 한도 내에서만 재고 증가
+     */
+    public AdmissionResult increment(long quantity) {
+        if (!tryAcquire()) {
+            return AdmissionResult.OVERLOADED;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.increment(quantity);
+            return AdmissionResult.SUCCESS;
+        } finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 한도 내에서만 재고 감소
+     */
+    public AdmissionResult decrement(long quantity) {
+        if (!tryAcquire()) {
+            return AdmissionResult.OVERLOADED;
+        }
+        long start = System.nanoTime();
+        try {
+            return switch (delegate.tryDecrement(quantity)) {
+                case StockResult.SUCCESS -> AdmissionResult.SUCCESS;
+                case StockResult.INSUFFICIENT_STOCK -> AdmissionResult.INSUFFICIENT_STOCK;
+                // 한도 거절(OVERLOADED)과 구분하여 별도 집계
+                default -> {
+                    contendedCount.incrementAndGet();
+                    yield AdmissionResult.CONTENDED;
+                }
+            };
+        } finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    public long getQuantity() {
+        return delegate.getQuantity();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * 한도 초과로 거절한 호출 수 ({@link AdmissionResult#OVERLOADED})
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 수락되었으나 CAS 경합으로 실패한 호출 수 ({@link AdmissionResult#CONTENDED})
+     */
+    public long getContendedCount() {
+        return contendedCount.get();
+    }
+
+    /**
+     * 수락된 연산의 평균 지연 (EWMA, 락 대기 시간이 대부분을 차지)
+     */
+    public long getAverageQueueDelayNanos() {
+        return averageQueueDelayNanos;
+    }
+
+    private boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.getLimit()) {
+            inFlight.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        limit.onSample(latencyNanos);
+        // 관측용 값이므로 경합 시 일부 샘플이 덮어써져도 무방
+        long average = averageQueueDelayNanos;
+        averageQueueDelayNanos = average + ((latencyNanos - average) >> 3);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.admission;
+
+/**
+ * 수락 제어 계층을 거친 재고 연산의 결과
+ */
+public enum AdmissionResult {
+    /** 수락되어 연산 성공 */
+    SUCCESS,
+    /** 수락되었으나 재고 부족으로 감소 실패 */
+    INSUFFICIENT_STOCK,
+    /** 동시 실행 한도 초과로 즉시 거절 (연산을 수행하지 않음) */
+    OVERLOADED,
+    /** 수락되었으나 CAS 재시도 소진으로 감소 실패 (재고 변경 없음, 재시도 가능) */
+    CONTENDED
+}
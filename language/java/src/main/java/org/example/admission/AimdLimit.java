@@ -0,0 +1,61 @@
+package org.example.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD(Additive Increase / Multiplicative Decrease) 방식의 적응형 동시 실행 한도
+ *
+ * - 관측 지연이 목표 이하: 한도를 1/limit 씩 증가 (한도만큼 완료되면 약 +1)
+ * - 관측 지연이 목표 초과: 한도에 backoffRatio를 곱해 감소
+ *
+ * TCP 혼잡 제어와 같은 원리로, 락 대기열이 길어지기 전에 동시 실행 수를 줄입니다.
+ * 한도는 double 비트를 AtomicLong에 담아 CAS로 갱신하므로 락이 없습니다.
+ */
+public class AimdLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    private final AtomicLong limitBits;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit must be in [1, maxLimit]");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be in [minLimit, maxLimit]");
+        }
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+    }
+
+    /**
+     * 현재 동시 실행 한도
+     */
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * 수락된 연산이 끝날 때마다 관측 지연(대기 + 실행)을 반영
+     */
+    public void onSample(long latencyNanos) {
+        while (true) {
+            long bits = limitBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = latencyNanos > targetLatencyNanos
+                ? Math.max(minLimit, current * backoffRatio)
+                : Math.min(maxLimit, current + 1.0 / current);
+            if (next == current || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package org.example.atomic;
 
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockListeners;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-public class Product {
+public class Product implements Stock {
+    private static final int MAX_RETRIES = 100;
+
     private Long id;
     private String name;
     private final AtomicLong quantity;
     private final long price;
+    private final StockListeners listeners = new StockListeners();
 
     public Product(Long id, String name, long quantity, long price) {
         this.id = id;
@@ -20,7 +29,8 @@ public class Product {
      * CAS(Compare-And-Swap) 알고리즘 사용
      */
     public void increment(long quantity) {
-        this.quantity.addAndGet(quantity);
+        long after = this.quantity.addAndGet(quantity);
+        listeners.fire(after - quantity, after);
     }
 
     /**
@@ -28,28 +38,89 @@ public class Product {
      * 재고가 충분할 때만 감소 (낙관적 락 패턴)
      */
     public boolean decrement(long quantity) {
-        final int MAX_RETRIES = 100;
-        int retries = 0;
-        while (retries < MAX_RETRIES) {
+        int result = tryDecrement(quantity);
+        if (result == StockResult.CONTENDED) {
+            // 재시도 횟수 초과 시 예외 발생
+            throw new IllegalStateException(
+                String.format("Failed to decrement after %d retries due to high contention", MAX_RETRIES)
+            );
+        }
+        return result == StockResult.SUCCESS;
+    }
+
+    /**
+     * decrement와 같은 CAS 루프이지만 재시도 횟수 초과 시 예외 대신 CONTENDED 반환
+     * 실패 경로에서도 메시지 생성/예외 할당이 없음
+     */
+    public int tryDecrement(long quantity) {
+        for (int retries = 0; retries < MAX_RETRIES; retries++) {
             long current = this.quantity.get();
             if (current < quantity) {
-                return false;
+                return StockResult.INSUFFICIENT_STOCK;
             }
             long next = current - quantity;
-            if (this.quantity.compareAndSet(current, next)) {
-                return true;
+            if (compareAndSetQuantity(current, next)) {
+                listeners.fire(current, next);
+                return StockResult.SUCCESS;
             }
             // CAS 실패 시 재시도 (다른 스레드가 먼저 변경한 경우)
-            retries++;
         }
+        return StockResult.CONTENDED;
+    }
 
-        // 재시도 횟수 초과 시 예외 발생
-        throw new IllegalStateException(
-            String.format("Failed to decrement after %d retries due to high contention", MAX_RETRIES)
-        );
+    /**
+     * 재시도 횟수 대신 마감 시각으로 제한하는 CAS 루프
+     * 재시도마다 인터럽트 여부를 확인하고, 마감이 지나면 재고를 건드리지 않고 TIMED_OUT
+     */
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long current = this.quantity.get();
+            if (current < quantity) {
+                return StockResult.INSUFFICIENT_STOCK;
+            }
+            long next = current - quantity;
+            if (compareAndSetQuantity(current, next)) {
+                listeners.fire(current, next);
+                return StockResult.SUCCESS;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return StockResult.TIMED_OUT;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * addAndGet은 항상 한 번에 성공하므로 인터럽트 여부만 확인
+     */
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        increment(quantity);
+        return StockResult.SUCCESS;
     }
 
     public long getQuantity() {
         return quantity.get();
     }
+
+    /**
+     * CAS 한 번 (패키지 내 테스트에서 항상 실패하도록 바꿔 CONTENDED 경로를 강제할 수 있음)
+     */
+    boolean compareAndSetQuantity(long expected, long next) {
+        return quantity.compareAndSet(expected, next);
+    }
+
+    public void addStockListener(StockListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeStockListener(StockListener listener) {
+        return listeners.remove(listener);
+    }
 }
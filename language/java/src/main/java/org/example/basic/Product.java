@@ -1,10 +1,18 @@
 package org.example.basic;
 
-public class Product {
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockListeners;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
+
+public class Product implements Stock {
     private Long id;
     private String name;
     private long quantity;
     private final long price;
+    private final StockListeners listeners = new StockListeners();
 
     public Product(Long id, String name, long quantity, long price) {
         this.id = id;
@@ -17,21 +25,61 @@ public class Product {
      * 재고 증가 (락 없음 - Race Condition 발생 가능)
      */
     public void increment(long quantity) {
+        long before = this.quantity;
         this.quantity += quantity;
+        listeners.fire(before, this.quantity);
     }
 
     /**
      * 재고 감소 (락 없음 - Race Condition 발생 가능)
      */
     public boolean decrement(long quantity) {
+        return tryDecrement(quantity) == StockResult.SUCCESS;
+    }
+
+    /**
+     * 재고 감소 후 결과 코드 반환 (락 없음 - Race Condition 발생 가능)
+     */
+    public int tryDecrement(long quantity) {
         if (this.quantity < quantity) {
-            return false;
+            return StockResult.INSUFFICIENT_STOCK;
         }
+        long before = this.quantity;
         this.quantity -= quantity;
-        return true;
+        listeners.fire(before, this.quantity);
+        return StockResult.SUCCESS;
+    }
+
+    /**
+     * 락 대기가 없으므로 즉시 실행 (락 없음 - Race Condition 발생 가능)
+     */
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return tryDecrement(quantity);
+    }
+
+    /**
+     * 락 대기가 없으므로 즉시 실행 (락 없음 - Race Condition 발생 가능)
+     */
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        increment(quantity);
+        return StockResult.SUCCESS;
     }
 
     public long getQuantity() {
         return quantity;
     }
+
+    public void addStockListener(StockListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeStockListener(StockListener listener) {
+        return listeners.remove(listener);
+    }
 }
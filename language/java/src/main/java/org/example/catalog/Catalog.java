@@ -0,0 +1,48 @@
+package org.example.catalog;
+
+import org.example.counter.PaddedCounterArray;
+
+/**
+ * 재고 수량(hot)과 상품 정보(cold)를 분리한 카탈로그
+ *
+ * - 수량: 상품 ID를 인덱스로 하는 {@link PaddedCounterArray} (전체 상품을 상품당 stride × 8바이트로 상주)
+ * - 이름 / 가격: {@link MetadataCache} (자주 조회되는 상품만 상주, 나머지는 조회 시 로딩)
+ *
+ * 재고 연산은 상품 정보를 읽지 않으므로, 전체 카탈로그를 Product 객체로 올리지 않고도 모든 상품의 재고를 관리할 수 있습니다.
+ * 상품 ID는 0 ~ size-1 범위의 조밀한 번호여야 합니다.
+ */
+public class Catalog {
+    private final PaddedCounterArray quantities;
+    private final MetadataCache metadata;
+
+    public Catalog(PaddedCounterArray quantities, MetadataCache metadata) {
+        this.quantities = quantities;
+        this.metadata = metadata;
+    }
+
+    /**
+     * @return {@link org.example.StockResult#SUCCESS}, {@link org.example.StockResult#INSUFFICIENT_STOCK}
+     */
+    public int tryDecrement(int productId, long quantity) {
+        return quantities.tryDecrement(productId, quantity);
+    }
+
+    public long increment(int productId, long quantity) {
+        return quantities.addAndGet(productId, quantity);
+    }
+
+    public long getQuantity(int productId) {
+        return quantities.get(productId);
+    }
+
+    /**
+     * 상품 정보 (캐시 미스 시 원본 저장소에서 로딩)
+     */
+    public ProductMetadata getMetadata(int productId) {
+        return metadata.get(productId);
+    }
+
+    public int size() {
+        return quantities.size();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.catalog;
+
+/**
+ * TinyLFU 접근 빈도 추정기 (4비트 Count-Min Sketch)
+ *
+ * - long 하나에 4비트 카운터 16개, 키마다 서로 다른 해시로 카운터 4개를 골라 최솟값을 빈도로 사용
+ * - 카운터는 15에서 멈추고, 증가 횟수가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여(aging) 최근 빈도를 반영
+ *
+ * 동기화하지 않으므로 {@link MetadataCache}의 정책 락 안에서만 사용합니다.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(8, maximumSize) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * Math.max(8, maximumSize);
+    }
+
+    int frequency(long key) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long hash = hash(key, i);
+            int shift = counterShift(hash);
+            frequency = Math.min(frequency, (int) ((table[index(hash)] >>> shift) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(long key) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long hash = hash(key, i);
+            int index = index(hash);
+            int shift = counterShift(hash);
+            if (((table[index] >>> shift) & 0xF) < 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private long hash(long key, int i) {
+        long hash = (key + SEEDS[i]) * SEEDS[(i + 1) & 3];
+        return hash ^ (hash >>> 31);
+    }
+
+    private int index(long hash) {
+        return (int) (hash >>> 32) & tableMask;
+    }
+
+    private int counterShift(long hash) {
+        return (int) (hash & 15) << 2;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.catalog;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 테스트용 프로세스 내 상품 정보 저장소
+ *
+ * 실제 DB 대신 사용하며, 조회당 지연(setLatency)을 흉내내고 조회 횟수를 기록합니다.
+ */
+public class InMemoryMetadataBackend implements MetadataLoader {
+    private final ConcurrentHashMap<Long, ProductMetadata> products = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+    private volatile long latencyNanos;
+
+    public void put(ProductMetadata metadata) {
+        products.put(metadata.getProductId(), metadata);
+    }
+
+    public void setLatency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+    }
+
+    @Override
+    public ProductMetadata load(long productId) {
+        long latency = latencyNanos;
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+        loadCount.incrementAndGet();
+        return products.get(productId);
+    }
+
+    /**
+     * 원본 저장소 조회 횟수 (캐시 미스 수)
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+}
@@ -0,0 +1,365 @@
+package org.example.catalog;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 정보 read-through 캐시 (크기 제한, W-TinyLFU 제거 정책)
+ *
+ * 구조:
+ * - window (1%): 새 항목이 먼저 들어가는 LRU, 순간적인 몰림(burst)을 흡수
+ * - probation (main의 20%): window에서 밀려난 항목이 수락(admission) 심사를 받는 LRU
+ * - protected (main의 80%): probation에서 다시 접근된 항목이 머무는 LRU
+ *
+ * window에서 밀려난 후보는 main이 가득 찼을 때 probation의 가장 오래된 항목(희생자)과
+ * {@link FrequencySketch}의 추정 빈도를 비교하여, 후보가 더 자주 접근되었을 때만 희생자를 밀어내고 들어갑니다.
+ * 한 번만 조회된 상품이 자주 조회되는 상품을 밀어내지 못하므로 Zipf 분포에서 LRU보다 적중률이 높습니다.
+ *
+ * 동시성:
+ * - 조회는 ConcurrentHashMap에서 락 없이 처리
+ * - 제거 정책(리스트, 빈도)은 정책 락 하나로 보호하며, 적중 시에는 tryLock에 실패하면 접근 기록을 생략 (손실 허용)
+ * - 미스 시 같은 상품에 대한 동시 로딩은 상품별 CompletableFuture 자리표시자로 한 번만 수행
+ *   (loader는 맵의 bin 락 밖에서 호출되므로 느린 로딩이 같은 bin의 다른 상품 조회 / 갱신을 막지 않음)
+ */
+public class MetadataCache {
+    private static final int NEW = 0;
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+    private static final int REMOVED = 4;
+
+    private final MetadataLoader loader;
+    private final ConcurrentHashMap<Long, Node> entries;
+    private final ConcurrentHashMap<Long, CompletableFuture<ProductMetadata>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final AccessOrder window = new AccessOrder();
+    private final AccessOrder probation = new AccessOrder();
+    private final AccessOrder protectedQueue = new AccessOrder();
+    private int windowSize;
+    private int mainSize;
+    private int protectedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize 최대 보관 상품 수
+     */
+    public MetadataCache(int maximumSize, MetadataLoader loader) {
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("maximumSize must be at least 2");
+        }
+        this.loader = loader;
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.entries = new ConcurrentHashMap<>(maximumSize * 4 / 3 + 1);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없으면 loader로 읽어 저장한 뒤 반환
+     *
+     * @return 상품 정보, 없는 상품이면 null
+     */
+    public ProductMetadata get(long productId) {
+        Node node = entries.get(productId);
+        if (node != null) {
+            hitCount.increment();
+            recordAccess(node);
+            return node.value;
+        }
+        missCount.increment();
+        CompletableFuture<ProductMetadata> future = new CompletableFuture<>();
+        CompletableFuture<ProductMetadata> inFlight = loading.putIfAbsent(productId, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            ProductMetadata value = load(productId, future);
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            loading.remove(productId, future);
+        }
+    }
+
+    /**
+     * 캐시에 있을 때만 반환 (loader를 호출하지 않음)
+     */
+    public ProductMetadata getIfPresent(long productId) {
+        Node node = entries.get(productId);
+        if (node == null) {
+            return null;
+        }
+        recordAccess(node);
+        return node.value;
+    }
+
+    /**
+     * 상품 정보가 바뀌었을 때 캐시에서 제거 (다음 조회 시 다시 로딩)
+     */
+    public void invalidate(long productId) {
+        // 진행 중인 로딩이 invalidate 이전 값을 저장하지 않도록 자리표시자를 먼저 제거
+        loading.remove(productId);
+        Node node = entries.remove(productId);
+        if (node == null) {
+            return;
+        }
+        policyLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * 자리표시자를 선점한 스레드만 호출: 맵 락 밖에서 loader를 호출하고 putIfAbsent로 저장
+     */
+    private ProductMetadata load(long productId, CompletableFuture<ProductMetadata> future) {
+        // 선점 직전에 다른 스레드의 로딩이 끝났을 수 있음
+        Node existing = entries.get(productId);
+        if (existing != null) {
+            return existing.value;
+        }
+        ProductMetadata value = loader.load(productId);
+        if (value == null) {
+            return null;
+        }
+        Node node = new Node(productId, value);
+        Node previous = entries.putIfAbsent(productId, node);
+        if (previous != null) {
+            return previous.value;
+        }
+        if (loading.get(productId) != future) {
+            // 로딩 중 invalidate됨: 이전 값을 캐시에 남기지 않음 (호출자에게는 반환)
+            entries.remove(productId, node);
+            return value;
+        }
+        recordInsert(node);
+        return value;
+    }
+
+    /**
+     * 같은 상품을 로딩 중인 스레드의 결과를 기다림 (loader 예외는 그대로 전달)
+     */
+    private static ProductMetadata await(CompletableFuture<ProductMetadata> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 적중 기록: 정책 락이 사용 중이면 생략하여 조회가 락을 기다리지 않게 함
+     */
+    private void recordAccess(Node node) {
+        if (!policyLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(node.key);
+            switch (node.queue) {
+                case WINDOW -> window.moveToFront(node);
+                case PROBATION -> {
+                    // 다시 접근된 probation 항목은 protected로 승격
+                    probation.remove(node);
+                    node.queue = PROTECTED;
+                    protectedQueue.addFirst(node);
+                    protectedSize++;
+                    if (protectedSize > protectedMaximum) {
+                        Node demoted = protectedQueue.removeLast();
+                        protectedSize--;
+                        demoted.queue = PROBATION;
+                        probation.addFirst(demoted);
+                    }
+                }
+                case PROTECTED -> protectedQueue.moveToFront(node);
+                default -> {
+                    // NEW(아직 연결 전) 또는 REMOVED
+                }
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * 새 항목을 window에 넣고, 넘친 window 항목을 main 수락 심사에 보냄 (삽입은 반드시 반영)
+     */
+    private void recordInsert(Node node) {
+        policyLock.lock();
+        try {
+            if (node.queue != NEW) {
+                // 같은 상품을 동시에 로딩한 다른 스레드가 이미 연결했거나, 그 사이 invalidate됨
+                return;
+            }
+            sketch.increment(node.key);
+            node.queue = WINDOW;
+            window.addFirst(node);
+            windowSize++;
+            while (windowSize > windowMaximum) {
+                Node candidate = window.removeLast();
+                windowSize--;
+                admit(candidate);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * main에 자리가 있으면 바로 probation에 넣고,
+     * 가득 찼으면 후보와 희생자의 빈도를 비교하여 빈도가 낮은 쪽을 제거
+     */
+    private void admit(Node candidate) {
+        if (mainSize < maximumSize - windowMaximum) {
+            candidate.queue = PROBATION;
+            probation.addFirst(candidate);
+            mainSize++;
+            return;
+        }
+        Node victim = probation.peekLast();
+        if (victim == null) {
+            victim = protectedQueue.peekLast();
+        }
+        if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            evict(victim);
+            candidate.queue = PROBATION;
+            probation.addFirst(candidate);
+            mainSize++;
+        } else {
+            candidate.queue = REMOVED;
+            entries.remove(candidate.key, candidate);
+            evictionCount.increment();
+        }
+    }
+
+    private void evict(Node node) {
+        unlink(node);
+        entries.remove(node.key, node);
+        evictionCount.increment();
+    }
+
+    private void unlink(Node node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowSize--;
+            }
+            case PROBATION -> {
+                probation.remove(node);
+                mainSize--;
+            }
+            case PROTECTED -> {
+                protectedQueue.remove(node);
+                protectedSize--;
+                mainSize--;
+            }
+            default -> {
+            }
+        }
+        node.queue = REMOVED;
+    }
+
+    private static final class Node {
+        final long key;
+        final ProductMetadata value;
+        int queue = NEW;
+        Node prev;
+        Node next;
+
+        Node(long key, ProductMetadata value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 노드에 prev/next를 직접 둔 이중 연결 리스트 (앞쪽이 최근 접근)
+     */
+    private static final class AccessOrder {
+        private final Node head = new Node(Long.MIN_VALUE, null);
+
+        AccessOrder() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void addFirst(Node node) {
+            node.prev = head;
+            node.next = head.next;
+            head.next.prev = node;
+            head.next = node;
+        }
+
+        void remove(Node node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToFront(Node node) {
+            remove(node);
+            addFirst(node);
+        }
+
+        Node peekLast() {
+            return head.prev == head ? null : head.prev;
+        }
+
+        Node removeLast() {
+            Node last = head.prev;
+            remove(last);
+            return last;
+        }
+    }
+}
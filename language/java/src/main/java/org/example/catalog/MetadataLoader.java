@@ -0,0 +1,13 @@
+package org.example.catalog;
+
+/**
+ * 캐시 미스 시 상품 정보를 읽어 오는 원본 저장소 (DB, 상품 서비스 등)
+ */
+@FunctionalInterface
+public interface MetadataLoader {
+
+    /**
+     * @return 상품 정보, 없는 상품이면 null (캐시에 저장하지 않음)
+     */
+    ProductMetadata load(long productId);
+}
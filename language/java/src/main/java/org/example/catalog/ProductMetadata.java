@@ -0,0 +1,35 @@
+package org.example.catalog;
+
+/**
+ * 상품의 변하지 않는(cold) 정보
+ *
+ * Product의 id / name / price에 해당하며, 재고 수량은 포함하지 않습니다.
+ */
+public final class ProductMetadata {
+    private final long productId;
+    private final String name;
+    private final long price;
+
+    public ProductMetadata(long productId, String name, long price) {
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProductMetadata[productId=%d, name=%s, price=%d]", productId, name, price);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.counter;
+
+import org.example.StockResult;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 캐시 라인 패딩을 적용한 다중 상품 재고 카운터 배열
+ *
+ * 카운터를 촘촘히 배치하면 서로 다른 스레드가 갱신하는 인접 상품이 같은 캐시 라인을 공유하여
+ * 한쪽의 CAS가 다른 쪽의 캐시 라인을 무효화합니다. (False Sharing)
+ * stride(long 단위 간격)만큼 떨어뜨려 배치하면 상품마다 별도의 캐시 라인을 사용합니다.
+ *
+ * - {@link #DENSE} (1): 8바이트/상품, 패딩 없음
+ * - {@link #CACHE_LINE} (8): 64바이트/상품, 일반적인 캐시 라인 크기
+ * - {@link #ADJACENT_LINE_PAIR} (16): 128바이트/상품, 인접 라인 프리페치까지 분리 (@Contended 기본값과 동일)
+ *
+ * 첫 카운터 앞과 마지막 카운터 뒤에도 각각 stride개의 long을 비워 배열 헤더나 다른 객체와 라인을 공유하지 않습니다.
+ * (카운터 i는 (i + 1) × stride 위치, 배열 길이는 (size + 1) × stride + 1)
+ *
+ * {@link org.example.Stock}이 아닌 저수준 카운터이므로 {@link #tryDecrement}는 재시도 횟수를 제한하지 않고
+ * CONTENDED를 반환하지 않습니다. CAS 실패는 다른 스레드의 갱신이 성공했다는 뜻이라 전체로는 항상 진행하며(lock-free),
+ * 호출자(Catalog, PartitionedStock의 빠른 경로)는 SUCCESS / INSUFFICIENT_STOCK만 처리합니다.
+ * 재시도를 제한해야 하면 {@link #compareAndSet}으로 직접 루프를 작성합니다.
+ */
+public class PaddedCounterArray {
+    public static final int DENSE = 1;
+    public static final int CACHE_LINE = 8;
+    public static final int ADJACENT_LINE_PAIR = 16;
+
+    private final AtomicLongArray counters;
+    private final int size;
+    private final int stride;
+
+    /**
+     * @param size   카운터(상품) 수
+     * @param stride 카운터 간격 (long 단위, 2의 거듭제곱)
+     */
+    public PaddedCounterArray(int size, int stride) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        if (stride < 1 || Integer.bitCount(stride) != 1) {
+            throw new IllegalArgumentException("stride must be a power of two");
+        }
+        if ((long) (size + 1) * stride + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("size * stride too large");
+        }
+        this.counters = new AtomicLongArray((size + 1) * stride + 1);
+        this.size = size;
+        this.stride = stride;
+    }
+
+    public static PaddedCounterArray dense(int size) {
+        return new PaddedCounterArray(size, DENSE);
+    }
+
+    public static PaddedCounterArray padded(int size) {
+        return new PaddedCounterArray(size, ADJACENT_LINE_PAIR);
+    }
+
+    public long get(int index) {
+        return counters.get(slot(index));
+    }
+
+    public void set(int index, long value) {
+        counters.set(slot(index), value);
+    }
+
+    public long addAndGet(int index, long delta) {
+        return counters.addAndGet(slot(index), delta);
+    }
+
+    public boolean compareAndSet(int index, long expected, long next) {
+        return counters.compareAndSet(slot(index), expected, next);
+    }
+
+    /**
+     * 재고가 충분할 때만 감소하는 CAS 루프 (락 없음, 할당 없음)
+     * 재시도 횟수를 제한하지 않음 - CAS 실패는 다른 스레드가 진행했다는 뜻 (클래스 설명 참고)
+     *
+     * @return {@link StockResult#SUCCESS}, {@link StockResult#INSUFFICIENT_STOCK}
+     */
+    public int tryDecrement(int index, long quantity) {
+        int slot = slot(index);
+        while (true) {
+            long current = counters.get(slot);
+            if (current < quantity) {
+                return StockResult.INSUFFICIENT_STOCK;
+            }
+            if (counters.compareAndSet(slot, current, current - quantity)) {
+                return StockResult.SUCCESS;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * 카운터 배열이 차지하는 바이트 수 (배열 헤더 제외)
+     */
+    public long footprintBytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (index + 1) * stride;
+    }
+}
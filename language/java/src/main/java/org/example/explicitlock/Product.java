@@ -1,15 +1,22 @@
 package org.example.explicitlock;
 
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockListeners;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
-public class Product {
+public class Product implements Stock {
     private final Lock lock = new ReentrantLock();
 
     private Long id;
     private String name;
     private long quantity;
     private final long price;
+    private final StockListeners listeners = new StockListeners();
 
     public Product(Long id, String name, long quantity, long price) {
         this.id = id;
@@ -25,24 +32,74 @@ public class Product {
     public void increment(long quantity) {
         lock.lock();
         try {
+            long before = this.quantity;
             this.quantity += quantity;
+            listeners.fire(before, this.quantity);
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * 재고 감소 (임계 영역은 tryDecrement)
+     */
+    public boolean decrement(long quantity) {
+        return tryDecrement(quantity) == StockResult.SUCCESS;
+    }
+
     /**
      * ReentrantLock으로 명시적 락 제어
      * try-finally를 사용하여 반드시 unlock 보장
+     * lock()은 반드시 획득하므로 CONTENDED는 반환하지 않음
      */
-    public boolean decrement(long quantity) {
+    public int tryDecrement(long quantity) {
         lock.lock();
         try {
             if (this.quantity < quantity) {
-                return false;
+                return StockResult.INSUFFICIENT_STOCK;
             }
+            long before = this.quantity;
             this.quantity -= quantity;
-            return true;
+            listeners.fire(before, this.quantity);
+            return StockResult.SUCCESS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * tryLock(timeout)으로 제한 시간 동안만 락 대기
+     * 대기 중 인터럽트되면 InterruptedException, 시간 초과 시 재고를 건드리지 않고 TIMED_OUT
+     */
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!lock.tryLock(timeout, unit)) {
+            return StockResult.TIMED_OUT;
+        }
+        try {
+            if (this.quantity < quantity) {
+                return StockResult.INSUFFICIENT_STOCK;
+            }
+            long before = this.quantity;
+            this.quantity -= quantity;
+            listeners.fire(before, this.quantity);
+            return StockResult.SUCCESS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * tryLock(timeout)으로 제한 시간 동안만 락 대기
+     */
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!lock.tryLock(timeout, unit)) {
+            return StockResult.TIMED_OUT;
+        }
+        try {
+            long before = this.quantity;
+            this.quantity += quantity;
+            listeners.fire(before, this.quantity);
+            return StockResult.SUCCESS;
         } finally {
             lock.unlock();
         }
@@ -56,4 +113,12 @@ public class Product {
             lock.unlock();
         }
     }
+
+    public void addStockListener(StockListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeStockListener(StockListener listener) {
+        return listeners.remove(listener);
+    }
 }
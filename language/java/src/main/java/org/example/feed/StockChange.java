@@ -0,0 +1,56 @@
+package org.example.feed;
+
+/**
+ * 재고 변경 이벤트
+ *
+ * 구독자가 느려 여러 변경이 합쳐진(coalesced) 경우 previousQuantity는
+ * 해당 구독자에게 마지막으로 전달한 수량입니다.
+ */
+public final class StockChange {
+
+    public enum Type {
+        /** 재고 수량 변경 */
+        CHANGED,
+        /** 재고 있음 → 품절 */
+        SOLD_OUT,
+        /** 품절 → 재입고 */
+        BACK_IN_STOCK
+    }
+
+    private final long productId;
+    private final long previousQuantity;
+    private final long quantity;
+
+    public StockChange(long productId, long previousQuantity, long quantity) {
+        this.productId = productId;
+        this.previousQuantity = previousQuantity;
+        this.quantity = quantity;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public long getPreviousQuantity() {
+        return previousQuantity;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public Type getType() {
+        if (previousQuantity > 0 && quantity <= 0) {
+            return Type.SOLD_OUT;
+        }
+        if (previousQuantity <= 0 && quantity > 0) {
+            return Type.BACK_IN_STOCK;
+        }
+        return Type.CHANGED;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StockChange[productId=%d, %d -> %d, %s]", productId, previousQuantity, quantity, getType());
+    }
+}
@@ -0,0 +1,292 @@
+package org.example.feed;
+
+import org.example.Stock;
+import org.example.StockListener;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 재고 변경 스트림 (java.util.concurrent.Flow 기반)
+ *
+ * 수백만 Product의 getQuantity()를 폴링하는 대신, 재고가 바뀐 상품만 구독자에게 알립니다.
+ *
+ * 쓰기 경로 (Product 연산 안에서 호출되는 {@link StockListener}):
+ * - 구독자별 dirty 플래그를 CAS로 0 → 1로 바꾼 스레드만 상품 슬롯을 링 버퍼에 넣음
+ * - 이미 dirty이면 volatile 읽기 한 번으로 끝 (합치기, coalescing)
+ * - 객체 할당 없음, 구독자를 기다리지 않음 (전달은 전용 drainer 스레드가 담당)
+ *
+ * 전달 경로 (drainer 스레드):
+ * - 구독자의 요청량(demand)만큼 링 버퍼에서 슬롯을 꺼내 현재 수량을 읽고 StockChange를 전달
+ * - 구독자가 느려 demand가 0이면 슬롯이 버퍼에 남아 있고, 그 사이의 변경은 모두 하나로 합쳐짐
+ * - 마지막으로 전달한 수량과 같으면(예: 1 → 0 → 1) 전달하지 않음
+ * - onNext / onError / onComplete는 모두 drainer 스레드에서만 호출되므로 구독자별로 직렬 전달됨
+ *   (잘못된 request(n)도 오류를 기록만 하고 drainer가 전달)
+ *
+ * 제약: drainer 스레드 하나가 모든 구독자에게 전달하므로, 한 구독자의 onNext가 느리면 다른 구독자의 전달도 함께 늦어집니다.
+ * 구독자는 onNext에서 블로킹하지 말고, 무거운 처리는 자체 executor로 넘겨야 합니다.
+ */
+public class StockChangeFeed implements Flow.Publisher<StockChange>, AutoCloseable {
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int capacity;
+    private final Stock[] stocks;
+    private final StockListener[] listeners;
+    private final long[] productIds;
+    private int registered;
+
+    private volatile FeedSubscription[] subscriptions = new FeedSubscription[0];
+    private volatile boolean closed;
+    private final Thread drainer;
+
+    /**
+     * @param capacity 등록 가능한 최대 상품 수 (구독자별 버퍼 크기)
+     */
+    public StockChangeFeed(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.stocks = new Stock[capacity];
+        this.listeners = new StockListener[capacity];
+        this.productIds = new long[capacity];
+        this.drainer = new Thread(this::drainLoop, "stock-change-feed");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * 상품을 스트림에 등록하고 재고 변경 리스너를 연결
+     */
+    public synchronized void register(long productId, Stock stock) {
+        if (closed) {
+            throw new IllegalStateException("feed is closed");
+        }
+        if (registered == capacity) {
+            throw new IllegalStateException(String.format("feed capacity exceeded (%d)", capacity));
+        }
+        int slot = registered++;
+        stocks[slot] = stock;
+        productIds[slot] = productId;
+        long quantity = stock.getQuantity();
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.published[slot] = quantity;
+        }
+        StockListener listener = (before, after) -> markDirty(slot);
+        listeners[slot] = listener;
+        stock.addStockListener(listener);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super StockChange> subscriber) {
+        FeedSubscription subscription;
+        synchronized (this) {
+            subscription = new FeedSubscription(subscriber);
+            for (int slot = 0; slot < registered; slot++) {
+                subscription.published[slot] = stocks[slot].getQuantity();
+            }
+            if (!closed) {
+                FeedSubscription[] current = subscriptions;
+                FeedSubscription[] next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = subscription;
+                subscriptions = next;
+                // 초기 수량을 읽은 뒤 구독 목록에 추가되기 전의 변경을 놓치지 않도록 전체 슬롯을 한 번 검사
+                for (int slot = 0; slot < registered; slot++) {
+                    subscription.mark(slot);
+                }
+            }
+        }
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * 이 피드가 연결한 리스너만 해제하고 모든 구독자에게 onComplete 전달 (다른 리스너는 유지)
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (int slot = 0; slot < registered; slot++) {
+                stocks[slot].removeStockListener(listeners[slot]);
+            }
+        }
+        LockSupport.unpark(drainer);
+    }
+
+    /**
+     * 쓰기 경로: 할당·블로킹 없이 구독자별 dirty 표시만 수행
+     */
+    private void markDirty(int slot) {
+        boolean signal = false;
+        for (FeedSubscription subscription : subscriptions) {
+            signal |= subscription.mark(slot);
+        }
+        if (signal) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private synchronized void remove(FeedSubscription subscription) {
+        FeedSubscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscription) {
+                FeedSubscription[] next = new FeedSubscription[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                subscriptions = next;
+                return;
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (!closed) {
+            boolean worked = false;
+            for (FeedSubscription subscription : subscriptions) {
+                worked |= subscription.drain();
+            }
+            if (!worked) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.drain();
+            subscription.complete();
+        }
+    }
+
+    /**
+     * 구독자별 합치기(coalescing) 상태
+     *
+     * 각 슬롯은 dirty인 동안 링 버퍼에 최대 한 번만 들어가므로 버퍼는 넘치지 않습니다.
+     */
+    private final class FeedSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super StockChange> subscriber;
+        private final AtomicIntegerArray dirty = new AtomicIntegerArray(capacity);
+        private final AtomicIntegerArray ring;
+        private final int mask;
+        private final AtomicInteger tail = new AtomicInteger();
+        private int head;  // drainer 스레드 전용
+        private final long[] published = new long[capacity];
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;  // request 위반 등, drainer가 전달할 오류
+
+        FeedSubscription(Flow.Subscriber<? super StockChange> subscriber) {
+            this.subscriber = subscriber;
+            int size = Integer.highestOneBit(capacity);
+            if (size < capacity) {
+                size <<= 1;
+            }
+            this.ring = new AtomicIntegerArray(size);
+            this.mask = size - 1;
+        }
+
+        /**
+         * @return 이번 호출로 새로 dirty가 되었는지 (drainer를 깨워야 하는지)
+         */
+        boolean mark(int slot) {
+            if (dirty.get(slot) != 0 || !dirty.compareAndSet(slot, 0, 1)) {
+                return false;
+            }
+            int index = tail.getAndIncrement() & mask;
+            // 소비자가 이전 칸을 비우는 중이면 잠시 대기 (칸 수 >= 슬롯 수이므로 곧 비워짐)
+            while (!ring.compareAndSet(index, 0, slot + 1)) {
+                Thread.onSpinWait();
+            }
+            return true;
+        }
+
+        boolean drain() {
+            if (pendingError != null) {
+                fail(pendingError);
+                return true;
+            }
+            boolean worked = false;
+            while (!cancelled && pendingError == null && demand.get() > 0) {
+                int index = head & mask;
+                int entry = ring.get(index);
+                if (entry == 0) {
+                    break;
+                }
+                ring.set(index, 0);
+                head++;
+                int slot = entry - 1;
+                dirty.set(slot, 0);
+                worked = true;
+
+                // dirty 해제 후에 현재 수량을 읽으므로 이후의 변경은 다시 표시됨
+                long quantity = stocks[slot].getQuantity();
+                long previous = published[slot];
+                if (quantity == previous) {
+                    continue;
+                }
+                published[slot] = quantity;
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(new StockChange(productIds[slot], previous, quantity));
+                } catch (Throwable t) {
+                    fail(t);
+                }
+            }
+            if (pendingError != null) {
+                // onNext 안에서 잘못된 request가 호출된 경우
+                fail(pendingError);
+            }
+            return worked;
+        }
+
+        /**
+         * drainer 스레드 전용: 구독을 취소하고 onError 전달
+         */
+        private void fail(Throwable error) {
+            if (!cancelled) {
+                cancel();
+                subscriber.onError(error);
+            }
+        }
+
+        void complete() {
+            if (!cancelled) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // 호출 스레드에서 onError를 보내면 drainer의 onNext와 겹칠 수 있으므로 기록만 하고 drainer가 전달 (§1.3)
+                if (pendingError == null) {
+                    pendingError = new IllegalArgumentException("request must be positive: " + n);
+                }
+                LockSupport.unpark(drainer);
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            LockSupport.unpark(drainer);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+        }
+    }
+}
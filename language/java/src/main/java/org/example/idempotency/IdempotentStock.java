@@ -0,0 +1,110 @@
+package org.example.idempotency;
+
+import org.example.Stock;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 ID 기반 멱등 재고 연산
+ *
+ * 타임아웃 난 호출을 클라이언트가 재시도하면 같은 decrement가 두 번 실행되어 초과 판매될 수 있습니다.
+ * 같은 요청 ID로 다시 호출되면 연산을 수행하지 않고 처음 결과({@link StockResult} 코드)를 그대로 반환합니다.
+ *
+ * CONTENDED 결과는 재고를 바꾸지 않았으므로 저장하지 않고, 재시도 시 다시 실행합니다.
+ * 같은 ID의 요청이 처리 중이면 최대 pendingWait 동안 결과를 기다리고, 그래도 끝나지 않으면 실행 없이 TIMED_OUT을 반환합니다.
+ */
+public class IdempotentStock {
+    private static final long DEFAULT_PENDING_WAIT_MILLIS = 1_000;
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Stock delegate;
+    private final RequestDedupCache cache;
+    private final long pendingWaitNanos;
+
+    public IdempotentStock(Stock delegate, RequestDedupCache cache) {
+        this(delegate, cache, DEFAULT_PENDING_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param pendingWait 같은 ID의 요청이 처리 중일 때 결과를 기다리는 최대 시간
+     */
+    public IdempotentStock(Stock delegate, RequestDedupCache cache, long pendingWait, TimeUnit unit) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.pendingWaitNanos = unit.toNanos(pendingWait);
+    }
+
+    public int decrement(long requestId, long quantity) {
+        int cached = awaitClaim(requestId);
+        if (cached != RequestDedupCache.CLAIMED) {
+            return cached;
+        }
+        boolean completed = false;
+        try {
+            int result = delegate.tryDecrement(quantity);
+            if (result != StockResult.CONTENDED) {
+                cache.complete(requestId, result);
+                completed = true;
+            }
+            return result;
+        } finally {
+            // 예외(Error 포함)나 CONTENDED로 끝나면 선점을 해제하여 재시도가 다시 실행되도록 함
+            if (!completed) {
+                cache.abort(requestId);
+            }
+        }
+    }
+
+    public int increment(long requestId, long quantity) {
+        int cached = awaitClaim(requestId);
+        if (cached != RequestDedupCache.CLAIMED) {
+            return cached;
+        }
+        boolean completed = false;
+        try {
+            delegate.increment(quantity);
+            cache.complete(requestId, StockResult.SUCCESS);
+            completed = true;
+            return StockResult.SUCCESS;
+        } finally {
+            if (!completed) {
+                cache.abort(requestId);
+            }
+        }
+    }
+
+    public long getQuantity() {
+        return delegate.getQuantity();
+    }
+
+    /**
+     * 같은 ID의 요청이 처리 중이면 결과가 저장되거나 해제될 때까지 대기 (지수 백오프로 park)
+     *
+     * @return 선점 결과, 또는 pendingWait 안에 끝나지 않거나 캐시가 처리 중인 요청으로 가득 차면
+     *         실행 없이 {@link StockResult#TIMED_OUT}
+     */
+    private int awaitClaim(long requestId) {
+        int cached = cache.claim(requestId);
+        if (cached == RequestDedupCache.REJECTED) {
+            return StockResult.TIMED_OUT;
+        }
+        if (cached != RequestDedupCache.PENDING) {
+            return cached;
+        }
+        long deadline = System.nanoTime() + pendingWaitNanos;
+        long backoffNanos = MIN_BACKOFF_NANOS;
+        while (cached == RequestDedupCache.PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return StockResult.TIMED_OUT;
+            }
+            LockSupport.parkNanos(this, Math.min(backoffNanos, remaining));
+            backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+            cached = cache.claim(requestId);
+        }
+        return cached == RequestDedupCache.REJECTED ? StockResult.TIMED_OUT : cached;
+    }
+}
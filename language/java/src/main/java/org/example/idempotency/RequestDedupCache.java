@@ -0,0 +1,261 @@
+package org.example.idempotency;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 ID 중복 제거 캐시 (크기 + 시간 제한)
+ *
+ * - 전역 락 없음: 요청 ID 해시로 세그먼트를 나누고 세그먼트마다 별도 락 사용
+ * - 박싱 없음: 세그먼트는 long[] 키 / int[] 결과 / long[] 만료 시각의 선형 탐사 해시 테이블
+ * - 크기 제한: 세그먼트별 삽입 순서 링 버퍼로 가장 오래된 완료 항목부터 제거 (FIFO)
+ * - 시간 제한: 조회 시 ttl이 지난 완료 항목은 없는 것으로 취급하고 제거
+ *
+ * 처리 중인 요청은 {@link #PENDING}으로 기록되어, 같은 ID의 재시도는 결과가 나올 때까지 기다립니다.
+ * 한 요청 ID가 두 번 실행되지 않도록 PENDING 항목은 시간이 지나도 만료되지 않고 크기 제한으로도 밀려나지 않으며,
+ * 선점한 스레드의 complete / abort로만 풀립니다. (다른 스레드의 complete / abort는 무시)
+ * 따라서 선점한 호출자는 반드시 try/finally로 complete 또는 abort 해야 하고, 기다리는 쪽은 대기 시간을 제한해야 합니다.
+ * 세그먼트가 처리 중인 요청으로 가득 차면 새 요청은 실행하지 않고 {@link #REJECTED}를 받습니다.
+ */
+public class RequestDedupCache {
+    /** claim 성공: 호출자가 연산을 수행하고 complete / abort 해야 함 */
+    public static final int CLAIMED = -1;
+    /** 같은 ID의 요청이 처리 중 */
+    public static final int PENDING = -2;
+    /** 세그먼트가 처리 중인 요청으로 가득 차 선점할 수 없음 (실행하지 말고 나중에 재시도) */
+    public static final int REJECTED = -3;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final long ttlNanos;
+
+    /**
+     * @param capacity 최대 보관 요청 수 (세그먼트에 균등 분배)
+     * @param ttl      결과 보관 시간 (처리 중인 요청에는 적용하지 않음)
+     */
+    public RequestDedupCache(int capacity, long ttl, TimeUnit unit) {
+        int segmentCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        if (capacity < segmentCount) {
+            throw new IllegalArgumentException("capacity must be at least " + segmentCount);
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(capacity / segmentCount);
+        }
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * 요청 ID 선점
+     *
+     * @return {@link #CLAIMED}(처음 보는 요청, 호출 스레드가 선점), {@link #PENDING}(처리 중),
+     *         {@link #REJECTED}(처리 중인 요청으로 가득 참), 또는 저장된 결과 코드
+     */
+    public int claim(long requestId) {
+        if (requestId == EMPTY) {
+            throw new IllegalArgumentException("requestId must not be Long.MIN_VALUE");
+        }
+        long hash = mix(requestId);
+        return segmentFor(hash).claim(requestId, hash, System.nanoTime(), Thread.currentThread().getId());
+    }
+
+    /**
+     * 선점한 요청의 결과 저장 (재시도 시 이 결과를 반환)
+     * 호출 스레드가 선점한 PENDING 항목일 때만 반영
+     */
+    public void complete(long requestId, int result) {
+        long hash = mix(requestId);
+        segmentFor(hash).complete(requestId, hash, result, System.nanoTime() + ttlNanos, Thread.currentThread().getId());
+    }
+
+    /**
+     * 선점한 요청을 결과 없이 해제 (재시도 시 다시 실행됨)
+     * 호출 스레드가 선점한 PENDING 항목일 때만 반영
+     */
+    public void abort(long requestId) {
+        long hash = mix(requestId);
+        segmentFor(hash).abort(requestId, hash, Thread.currentThread().getId());
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> segmentShift)];
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * 선형 탐사 해시 테이블 + 삽입 순서 링 버퍼 (락으로 보호)
+     */
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] keys;
+        private final int[] results;
+        private final long[] expiresAt;
+        private final long[] owners;         // PENDING 항목을 선점한 스레드 ID
+        private final int[] orderPositions;  // 항목을 기록한 링 버퍼 위치
+        private final int mask;
+
+        private final long[] insertionOrder;
+        private int orderHead;
+        private int orderSize;
+        private int size;
+
+        Segment(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;  // 적재율 0.5 이하
+            this.keys = new long[tableSize];
+            this.results = new int[tableSize];
+            this.expiresAt = new long[tableSize];
+            this.owners = new long[tableSize];
+            this.orderPositions = new int[tableSize];
+            this.mask = tableSize - 1;
+            Arrays.fill(keys, EMPTY);
+            this.insertionOrder = new long[Math.max(1, capacity)];
+        }
+
+        int claim(long key, long hash, long now, long owner) {
+            lock.lock();
+            try {
+                int index = find(key, hash);
+                if (index >= 0) {
+                    if (results[index] == PENDING || expiresAt[index] - now > 0) {
+                        return results[index];
+                    }
+                    delete(index);
+                }
+                if (orderSize == insertionOrder.length && !evictOldest()) {
+                    return REJECTED;
+                }
+                int position = (orderHead + orderSize) % insertionOrder.length;
+                insertionOrder[position] = key;
+                orderSize++;
+                insert(key, hash, position, owner);
+                return CLAIMED;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(long key, long hash, int result, long expiry, long owner) {
+            lock.lock();
+            try {
+                int index = find(key, hash);
+                if (index >= 0 && results[index] == PENDING && owners[index] == owner) {
+                    results[index] = result;
+                    expiresAt[index] = expiry;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void abort(long key, long hash, long owner) {
+            lock.lock();
+            try {
+                int index = find(key, hash);
+                if (index >= 0 && results[index] == PENDING && owners[index] == owner) {
+                    delete(index);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 링 버퍼의 가장 오래된 완료 항목 제거
+         * 이미 만료/해제된 뒤 다시 삽입된 키는 링 위치가 달라지므로 건너뛰고,
+         * 처리 중(PENDING)인 항목은 밀어내지 않고 링의 끝으로 옮김
+         *
+         * @return 자리를 만들었으면 true, 링 전체가 처리 중인 항목이면 false
+         */
+        private boolean evictOldest() {
+            for (int checked = 0; checked < insertionOrder.length; checked++) {
+                int position = orderHead;
+                long oldest = insertionOrder[position];
+                orderHead = (orderHead + 1) % insertionOrder.length;
+                orderSize--;
+                int index = find(oldest, mix(oldest));
+                if (index < 0 || orderPositions[index] != position) {
+                    return true;
+                }
+                if (results[index] != PENDING) {
+                    delete(index);
+                    return true;
+                }
+                int tail = (orderHead + orderSize) % insertionOrder.length;
+                insertionOrder[tail] = oldest;
+                orderPositions[index] = tail;
+                orderSize++;
+            }
+            return false;
+        }
+
+        private int find(long key, long hash) {
+            for (int index = (int) hash & mask; ; index = (index + 1) & mask) {
+                long current = keys[index];
+                if (current == key) {
+                    return index;
+                }
+                if (current == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        private void insert(long key, long hash, int orderPosition, long owner) {
+            int index = (int) hash & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            results[index] = PENDING;
+            owners[index] = owner;
+            orderPositions[index] = orderPosition;
+            size++;
+        }
+
+        /**
+         * backward-shift 삭제: 뒤따르는 탐사 체인을 앞으로 당겨 tombstone 없이 삭제
+         */
+        private void delete(int index) {
+            int hole = index;
+            for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = (int) mix(keys[next]) & mask;
+                // next의 원래 위치(home)가 (hole, next] 구간 밖이면 hole로 이동 가능
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    results[hole] = results[next];
+                    expiresAt[hole] = expiresAt[next];
+                    owners[hole] = owners[next];
+                    orderPositions[hole] = orderPositions[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package org.example.partition;
+
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockListeners;
+import org.example.StockResult;
+import org.example.counter.PaddedCounterArray;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 인기 상품의 재고를 N개 파티션으로 나눈 Stock
+ *
+ * 카운터 하나는 어떤 동기화 전략을 쓰더라도 처리량에 상한이 있으므로,
+ * 재고를 파티션별 할당량(quota)으로 나누고 스레드마다 자기 파티션에서만 CAS합니다.
+ *
+ * - 빠른 경로: 자기 파티션의 할당량에서 CAS 감소 (락 없음, 파티션은 캐시 라인 패딩으로 분리)
+ * - 재분배: 백그라운드 스레드가 주기적으로(또는 할당량이 바닥나는 파티션의 요청으로) 넉넉한 파티션의 할당량을 부족한 파티션으로 이동
+ * - 느린 경로: 자기 파티션이 부족하면 락을 잡고 모든 파티션에서 할당량을 모아 정확히 처리 (마지막 재고)
+ *
+ * 할당량은 항상 한 파티션(또는 이동 중인 스레드의 손)에만 존재하므로 초과 판매가 없습니다.
+ * {@link #getQuantity()}는 파티션 합계이며, 재분배 중에는 이동 중인 수량만큼 일시적으로 작게 보일 수 있습니다.
+ */
+public class PartitionedStock implements Stock, AutoCloseable {
+    private final int partitions;
+    private final PaddedCounterArray quotas;
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+    private final long rebalanceIntervalNanos;
+
+    private volatile long lowWatermark;
+    private final StockListeners listeners = new StockListeners();
+    private volatile boolean running = true;
+    private final Thread rebalancer;
+
+    private final AtomicLong slowPathCount = new AtomicLong();
+    private final AtomicLong rebalancedUnits = new AtomicLong();
+
+    /**
+     * @param quantity          초기 재고 (파티션에 균등 분배)
+     * @param partitions        파티션 수 (코어 수 또는 시뮬레이션할 노드 수)
+     * @param rebalanceInterval 재분배 주기 (0 이하이면 백그라운드 재분배 없음)
+     */
+    public PartitionedStock(long quantity, int partitions, long rebalanceInterval, TimeUnit unit) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive");
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("quantity must not be negative");
+        }
+        this.partitions = partitions;
+        this.quotas = PaddedCounterArray.padded(partitions);
+        for (int i = 0; i < partitions; i++) {
+            quotas.set(i, quantity / partitions + (i < quantity % partitions ? 1 : 0));
+        }
+        this.lowWatermark = quantity / partitions / 2;
+        this.rebalanceIntervalNanos = unit.toNanos(rebalanceInterval);
+        if (rebalanceIntervalNanos > 0) {
+            this.rebalancer = new Thread(this::rebalanceLoop, "partition-rebalancer");
+            this.rebalancer.setDaemon(true);
+            this.rebalancer.start();
+        } else {
+            this.rebalancer = null;
+        }
+    }
+
+    @Override
+    public void increment(long quantity) {
+        quotas.addAndGet(home(), quantity);
+        notifyListener(quantity);
+    }
+
+    @Override
+    public boolean decrement(long quantity) {
+        return tryDecrement(quantity) == StockResult.SUCCESS;
+    }
+
+    /**
+     * 자기 파티션에서 CAS 감소, 부족하면 락을 잡고 모든 파티션에서 모아 처리
+     * 느린 경로도 락을 반드시 획득하므로 CONTENDED는 반환하지 않음
+     */
+    @Override
+    public int tryDecrement(long quantity) {
+        int home = home();
+        if (tryDecrementHome(home, quantity)) {
+            return StockResult.SUCCESS;
+        }
+        rebalanceLock.lock();
+        try {
+            return decrementSlowPath(home, quantity);
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    /**
+     * 빠른 경로는 대기가 없고, 느린 경로만 tryLock(timeout)으로 제한
+     */
+    @Override
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        int home = home();
+        if (tryDecrementHome(home, quantity)) {
+            return StockResult.SUCCESS;
+        }
+        if (!rebalanceLock.tryLock(timeout, unit)) {
+            return StockResult.TIMED_OUT;
+        }
+        try {
+            return decrementSlowPath(home, quantity);
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    /**
+     * 자기 파티션에 더하므로 대기가 없음
+     */
+    @Override
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        increment(quantity);
+        return StockResult.SUCCESS;
+    }
+
+    /**
+     * 모든 파티션 할당량의 합 (원자적 스냅샷 아님)
+     */
+    @Override
+    public long getQuantity() {
+        long total = 0;
+        for (int i = 0; i < partitions; i++) {
+            total += quotas.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 리스너가 등록되어 있으면 변경마다 파티션 합계를 다시 읽어 전달 (before/after는 근사값)
+     */
+    @Override
+    public void addStockListener(StockListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean removeStockListener(StockListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * 부족한 파티션(공평 몫의 절반 미만)에 넉넉한 파티션의 할당량을 공평 몫까지 이동
+     */
+    public void rebalance() {
+        rebalanceLock.lock();
+        try {
+            long fair = getQuantity() / partitions;
+            long low = fair / 2;
+            lowWatermark = low;
+            for (int i = 0; i < partitions; i++) {
+                long current = quotas.get(i);
+                if (current >= low) {
+                    continue;
+                }
+                long need = fair - current;
+                while (need > 0) {
+                    int donor = richest();
+                    long moved = take(donor, Math.min(need, quotas.get(donor) - fair));
+                    if (moved <= 0) {
+                        break;
+                    }
+                    quotas.addAndGet(i, moved);
+                    rebalancedUnits.addAndGet(moved);
+                    need -= moved;
+                }
+            }
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public long getPartitionQuantity(int partition) {
+        return quotas.get(partition);
+    }
+
+    /**
+     * 자기 파티션이 부족하여 락을 잡은 횟수
+     */
+    public long getSlowPathCount() {
+        return slowPathCount.get();
+    }
+
+    /**
+     * 재분배로 이동한 누적 수량
+     */
+    public long getRebalancedUnits() {
+        return rebalancedUnits.get();
+    }
+
+    /**
+     * 재분배 스레드 종료 (재고는 그대로 사용 가능)
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (rebalancer != null) {
+            LockSupport.unpark(rebalancer);
+            try {
+                rebalancer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean tryDecrementHome(int home, long quantity) {
+        if (quotas.tryDecrement(home, quantity) != StockResult.SUCCESS) {
+            return false;
+        }
+        if (rebalancer != null && quotas.get(home) < lowWatermark) {
+            LockSupport.unpark(rebalancer);
+        }
+        notifyListener(-quantity);
+        return true;
+    }
+
+    /**
+     * 락을 쥔 상태에서 자기 파티션부터 차례로 할당량을 모아 감소
+     * 모자라면 모은 수량을 자기 파티션에 되돌리고 INSUFFICIENT_STOCK
+     */
+    private int decrementSlowPath(int home, long quantity) {
+        slowPathCount.incrementAndGet();
+        long gathered = 0;
+        for (int i = 0; i < partitions && gathered < quantity; i++) {
+            gathered += take((home + i) % partitions, quantity - gathered);
+        }
+        if (gathered < quantity) {
+            if (gathered > 0) {
+                quotas.addAndGet(home, gathered);
+            }
+            return StockResult.INSUFFICIENT_STOCK;
+        }
+        notifyListener(-quantity);
+        return StockResult.SUCCESS;
+    }
+
+    /**
+     * 파티션에서 최대 max만큼 꺼냄 (빠른 경로와 경쟁하므로 CAS)
+     */
+    private long take(int partition, long max) {
+        if (max <= 0) {
+            return 0;
+        }
+        while (true) {
+            long current = quotas.get(partition);
+            long amount = Math.min(max, current);
+            if (amount <= 0) {
+                return 0;
+            }
+            if (quotas.compareAndSet(partition, current, current - amount)) {
+                return amount;
+            }
+        }
+    }
+
+    private int richest() {
+        int richest = 0;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < partitions; i++) {
+            long current = quotas.get(i);
+            if (current > max) {
+                max = current;
+                richest = i;
+            }
+        }
+        return richest;
+    }
+
+    private int home() {
+        return (int) (Thread.currentThread().getId() % partitions);
+    }
+
+    private void notifyListener(long delta) {
+        if (!listeners.isEmpty()) {
+            long after = getQuantity();
+            listeners.fire(after - delta, after);
+        }
+    }
+
+    private void rebalanceLoop() {
+        while (running) {
+            LockSupport.parkNanos(this, rebalanceIntervalNanos);
+            if (!running) {
+                break;
+            }
+            rebalance();
+        }
+    }
+}
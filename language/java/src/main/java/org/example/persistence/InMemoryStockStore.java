@@ -0,0 +1,76 @@
+package org.example.persistence;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 테스트용 프로세스 내 저장소
+ *
+ * 실제 DB 대신 사용하며, 장애(setAvailable(false))와 호출당 지연(setLatency)을 흉내낼 수 있습니다.
+ */
+public class InMemoryStockStore implements StockStore {
+    private final ConcurrentHashMap<Long, Long> quantities = new ConcurrentHashMap<>();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong failedBatchCount = new AtomicLong();
+    private volatile boolean available = true;
+    private volatile long latencyNanos;
+
+    public void put(long productId, long quantity) {
+        quantities.put(productId, quantity);
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public void setLatency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+    }
+
+    @Override
+    public void applyDeltas(long[] productIds, long[] deltas, int count) throws StockStoreException {
+        simulateLatency();
+        if (!available) {
+            failedBatchCount.incrementAndGet();
+            throw new StockStoreException("store unavailable");
+        }
+        // 배치 전체를 하나의 트랜잭션처럼 반영
+        synchronized (this) {
+            for (int i = 0; i < count; i++) {
+                quantities.merge(productIds[i], deltas[i], Long::sum);
+            }
+        }
+        batchCount.incrementAndGet();
+    }
+
+    @Override
+    public long getQuantity(long productId) throws StockStoreException {
+        if (!available) {
+            throw new StockStoreException("store unavailable");
+        }
+        return quantities.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 성공한 배치 수
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * 장애로 실패한 배치 수
+     */
+    public long getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    private void simulateLatency() {
+        long latency = latencyNanos;
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.persistence;
+
+/**
+ * 외부 재고 저장소 (DB 등)
+ *
+ * write-behind 계층이 상품별로 합친 증감량(delta)을 배치로 전달합니다.
+ */
+public interface StockStore {
+
+    /**
+     * 배치 적용 - 전체가 반영되거나, 예외와 함께 전혀 반영되지 않아야 함
+     *
+     * 배열은 호출자가 재사용하므로 호출이 끝난 뒤에는 참조하면 안 됩니다.
+     *
+     * @param productIds 상품 ID (앞에서부터 count개 유효)
+     * @param deltas     상품별 증감량
+     * @param count      유효한 항목 수
+     */
+    void applyDeltas(long[] productIds, long[] deltas, int count) throws StockStoreException;
+
+    /**
+     * 저장된 재고 (상품이 없으면 0)
+     */
+    long getQuantity(long productId) throws StockStoreException;
+}
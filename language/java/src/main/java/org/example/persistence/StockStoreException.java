@@ -0,0 +1,16 @@
+package org.example.persistence;
+
+/**
+ * 저장소 장애 (연결 실패, 타임아웃 등)
+ */
+public class StockStoreException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public StockStoreException(String message) {
+        super(message);
+    }
+
+    public StockStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.persistence;
+
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * write-behind 영속화 Product 래퍼
+ *
+ * 재고 연산은 메모리의 Product에서 바로 끝나고, 성공한 증감량만 {@link WriteBehindWriter}에 기록됩니다.
+ * 반영이 maxLag 이상 밀려 있으면 연산 전에(상품 락 밖에서) 대기합니다.
+ */
+public class WriteBehindStock implements Stock {
+    private final Stock delegate;
+    private final WriteBehindWriter writer;
+    private final WriteBehindWriter.PendingDelta pending;
+
+    public WriteBehindStock(long productId, Stock delegate, WriteBehindWriter writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.pending = writer.track(productId);
+    }
+
+    @Override
+    public void increment(long quantity) {
+        writer.awaitWithinLag();
+        delegate.increment(quantity);
+        writer.record(pending, quantity);
+    }
+
+    @Override
+    public boolean decrement(long quantity) {
+        writer.awaitWithinLag();
+        if (delegate.decrement(quantity)) {
+            writer.record(pending, -quantity);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int tryDecrement(long quantity) {
+        writer.awaitWithinLag();
+        int result = delegate.tryDecrement(quantity);
+        if (result == StockResult.SUCCESS) {
+            writer.record(pending, -quantity);
+        }
+        return result;
+    }
+
+    /**
+     * 반영 지연 대기와 Product 락 대기를 합쳐 timeout 안에서만 대기
+     */
+    @Override
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        long timeoutNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + timeoutNanos;
+        if (!writer.awaitWithinLag(timeoutNanos)) {
+            return StockResult.TIMED_OUT;
+        }
+        int result = delegate.tryDecrement(quantity, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (result == StockResult.SUCCESS) {
+            writer.record(pending, -quantity);
+        }
+        return result;
+    }
+
+    /**
+     * 반영 지연 대기와 Product 락 대기를 합쳐 timeout 안에서만 대기
+     */
+    @Override
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        long timeoutNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + timeoutNanos;
+        if (!writer.awaitWithinLag(timeoutNanos)) {
+            return StockResult.TIMED_OUT;
+        }
+        int result = delegate.tryIncrement(quantity, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (result == StockResult.SUCCESS) {
+            writer.record(pending, quantity);
+        }
+        return result;
+    }
+
+    @Override
+    public long getQuantity() {
+        return delegate.getQuantity();
+    }
+
+    @Override
+    public void addStockListener(StockListener listener) {
+        delegate.addStockListener(listener);
+    }
+
+    @Override
+    public boolean removeStockListener(StockListener listener) {
+        return delegate.removeStockListener(listener);
+    }
+}
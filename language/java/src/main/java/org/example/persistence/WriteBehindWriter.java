@@ -0,0 +1,297 @@
+package org.example.persistence;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * write-behind 재고 기록기
+ *
+ * 재고 연산마다 DB에 동기 기록하면 처리량이 초당 수백만 → 수천 건으로 떨어집니다.
+ * 이 기록기는 증감량을 메모리에 상품별로 합쳐 두었다가 배치로 저장소에 반영합니다.
+ *
+ * - 합치기: 상품별 AtomicLong에 delta를 누적, 처음 dirty가 될 때만 큐에 추가
+ * - 배치 반영: dirty 상품 수가 batchSize에 도달하거나 flushInterval이 지나면 flusher 스레드가 반영
+ * - 장애 대응: 저장소 예외 시 delta를 되돌려 놓고 지수 백오프로 재시도 (갱신 유실 없음)
+ * - 지연 상한: 마지막 성공 반영 이후 maxLag가 지나도록 밀려 있으면,
+ *   {@link #awaitWithinLag()}를 호출하는 쓰기 스레드를 반영이 따라잡을 때까지 대기시킴
+ */
+public class WriteBehindWriter implements AutoCloseable {
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final StockStore store;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long maxLagNanos;
+
+    private final Queue<PendingDelta> dirtyQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+
+    // flushLock으로 보호되는 배치 버퍼 (저장소 호출 간 재사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final PendingDelta[] batchEntries;
+    private final long[] batchIds;
+    private final long[] batchDeltas;
+
+    private final Object lagMonitor = new Object();
+    private volatile boolean lagging;
+    private volatile long lastFlushNanos = System.nanoTime();
+
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private volatile boolean running = true;
+    private final Thread flusher;
+
+    public WriteBehindWriter(StockStore store, int batchSize, long flushInterval, long maxLag, TimeUnit unit) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (flushInterval <= 0 || maxLag < flushInterval) {
+            throw new IllegalArgumentException("flushInterval must be positive and not greater than maxLag");
+        }
+        this.store = store;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = unit.toNanos(flushInterval);
+        this.maxLagNanos = unit.toNanos(maxLag);
+        this.batchEntries = new PendingDelta[batchSize];
+        this.batchIds = new long[batchSize];
+        this.batchDeltas = new long[batchSize];
+        this.flusher = new Thread(this::flushLoop, "write-behind-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 상품별 누적 버퍼 (상품당 한 번 생성하여 재사용)
+     */
+    public static final class PendingDelta {
+        private final long productId;
+        private final AtomicLong delta = new AtomicLong();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private PendingDelta(long productId) {
+            this.productId = productId;
+        }
+
+        public long getProductId() {
+            return productId;
+        }
+    }
+
+    public PendingDelta track(long productId) {
+        return new PendingDelta(productId);
+    }
+
+    /**
+     * 증감량 기록 (저장소를 기다리지 않음)
+     */
+    public void record(PendingDelta pending, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        pending.delta.getAndAdd(delta);
+        markDirty(pending, true);
+    }
+
+    /**
+     * 반영이 maxLag 이상 밀려 있으면 따라잡을 때까지 대기
+     *
+     * 상품 락 밖에서 호출해야 하며, 인터럽트되면 인터럽트 상태를 복구하고 바로 반환합니다.
+     */
+    public void awaitWithinLag() {
+        if (!lagging) {
+            return;
+        }
+        synchronized (lagMonitor) {
+            while (lagging && running) {
+                try {
+                    lagMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 반영이 maxLag 이상 밀려 있으면 최대 timeoutNanos 동안 따라잡기를 기다림
+     *
+     * @return 지연 상한 안으로 들어왔으면(또는 종료되었으면) true, 시간이 다 되었으면 false
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public boolean awaitWithinLag(long timeoutNanos) throws InterruptedException {
+        if (!lagging) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        synchronized (lagMonitor) {
+            while (lagging && running) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lagMonitor, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 호출 시점에 밀려 있던 변경을 즉시 반영
+     *
+     * @return 모두 반영했으면 true, 저장소 장애로 일부가 남았으면 false
+     */
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            int remaining = dirtyCount.get();
+            while (remaining > 0) {
+                int count = 0;
+                PendingDelta entry;
+                while (count < batchSize && remaining > 0 && (entry = dirtyQueue.poll()) != null) {
+                    remaining--;
+                    dirtyCount.decrementAndGet();
+                    // dirty 해제 후 delta를 가져가므로, 이후의 기록은 다시 큐에 들어감
+                    entry.dirty.set(false);
+                    long delta = entry.delta.getAndSet(0);
+                    if (delta != 0) {
+                        batchEntries[count] = entry;
+                        batchIds[count] = entry.productId;
+                        batchDeltas[count] = delta;
+                        count++;
+                    }
+                }
+                if (count == 0) {
+                    break;
+                }
+                if (!applyBatch(count)) {
+                    return false;
+                }
+            }
+            lastFlushNanos = System.nanoTime();
+            updateLag();
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 상품 수
+     */
+    public int getPendingProducts() {
+        return dirtyCount.get();
+    }
+
+    public boolean isLagging() {
+        return lagging;
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    /**
+     * flusher를 멈추고 남은 변경을 한 번 더 반영 시도
+     *
+     * @throws StockStoreException 저장소 장애로 반영하지 못한 변경이 남은 경우 (메모리 재고와 저장소가 불일치)
+     */
+    @Override
+    public void close() throws StockStoreException {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean flushed = flush();
+        synchronized (lagMonitor) {
+            lagMonitor.notifyAll();
+        }
+        if (!flushed) {
+            throw new StockStoreException(String.format("%d products not persisted on close", dirtyCount.get()));
+        }
+    }
+
+    /**
+     * @param signal batchSize에 도달하면 flusher를 깨울지 여부 (실패한 배치를 되돌릴 때는 false)
+     */
+    private void markDirty(PendingDelta pending, boolean signal) {
+        if (!pending.dirty.get() && pending.dirty.compareAndSet(false, true)) {
+            dirtyQueue.add(pending);
+            if (dirtyCount.incrementAndGet() % batchSize == 0 && signal) {
+                LockSupport.unpark(flusher);
+            }
+        }
+    }
+
+    private boolean applyBatch(int count) {
+        try {
+            store.applyDeltas(batchIds, batchDeltas, count);
+            flushedBatches.incrementAndGet();
+            lastFlushNanos = System.nanoTime();
+            return true;
+        } catch (StockStoreException e) {
+            failedFlushes.incrementAndGet();
+            // 반영하지 못한 delta를 되돌려 다음 재시도에 포함
+            for (int i = 0; i < count; i++) {
+                batchEntries[i].delta.getAndAdd(batchDeltas[i]);
+                markDirty(batchEntries[i], false);
+            }
+            return false;
+        } finally {
+            for (int i = 0; i < count; i++) {
+                batchEntries[i] = null;
+            }
+        }
+    }
+
+    private void updateLag() {
+        boolean lag = dirtyCount.get() > 0 && System.nanoTime() - lastFlushNanos > maxLagNanos;
+        if (lag != lagging) {
+            synchronized (lagMonitor) {
+                lagging = lag;
+                if (!lag) {
+                    lagMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void flushLoop() {
+        long backoffNanos = 0;
+        while (running) {
+            if (backoffNanos > 0) {
+                // 장애 중에는 크기 트리거(unpark)가 와도 백오프 시간을 모두 기다림
+                long deadline = System.nanoTime() + backoffNanos;
+                long remaining;
+                while (running && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } else {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            if (!running) {
+                break;
+            }
+            if (flush()) {
+                backoffNanos = 0;
+            } else {
+                backoffNanos = backoffNanos == 0 ? flushIntervalNanos : Math.min(MAX_BACKOFF_NANOS, backoffNanos * 2);
+                updateLag();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.rollup;
+
+import org.example.Stock;
+import org.example.StockListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카테고리 / 창고 / 전체 재고 합계를 변경마다 증분 갱신하는 집계기
+ *
+ * 계층: 상품 → 카테고리(창고 내) → 창고 → 전체
+ *
+ * - 쓰기: 상품의 {@link org.example.StockListener}가 변경량(after - before)을 부모 노드 3개에 더함
+ * - 노드는 LongAdder(스트라이프 카운터)이므로 같은 창고의 상품들이 동시에 변경되어도 부모에서 직렬화되지 않음
+ * - 읽기: 노드 하나의 LongAdder.sum() (상품 수와 무관, 락 없음)
+ *
+ * 합계는 각 상품의 변경이 끝난 직후 반영되므로, 변경이 진행 중일 때 읽은 값은 상품별 getQuantity() 합과 잠시 다를 수 있습니다.
+ */
+public class StockRollup {
+    private final RollupNode global = new RollupNode(null);
+    private final ConcurrentHashMap<String, RollupNode> warehouses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RollupNode>> categories = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Stock, Registration> registrations = new ConcurrentHashMap<>();
+
+    /**
+     * 상품을 창고 / 카테고리에 등록하고 재고 변경 리스너를 추가 (다른 리스너는 유지)
+     *
+     * 현재 수량을 초기값으로 더하므로 상품을 사용하기 전에 등록해야 합니다.
+     */
+    public void register(Stock stock, String warehouse, String category) {
+        RollupNode warehouseNode = warehouses.computeIfAbsent(warehouse, name -> new RollupNode(global));
+        RollupNode categoryNode = categories.computeIfAbsent(warehouse, name -> new ConcurrentHashMap<>())
+            .computeIfAbsent(category, name -> new RollupNode(warehouseNode));
+        Registration registration = new Registration(categoryNode);
+        if (registrations.putIfAbsent(stock, registration) != null) {
+            throw new IllegalStateException("stock is already registered");
+        }
+        categoryNode.add(stock.getQuantity());
+        stock.addStockListener(registration);
+    }
+
+    /**
+     * 이 집계기가 추가한 리스너만 제거하고 상품의 현재 수량을 합계에서 뺌
+     *
+     * 등록과 마찬가지로 상품 사용이 끝난 뒤 해제해야 합니다.
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public boolean unregister(Stock stock) {
+        Registration registration = registrations.remove(stock);
+        if (registration == null) {
+            return false;
+        }
+        stock.removeStockListener(registration);
+        registration.node.add(-stock.getQuantity());
+        return true;
+    }
+
+    public long getTotal() {
+        return global.sum();
+    }
+
+    /**
+     * 창고 전체 재고 (미등록 창고는 0)
+     */
+    public long getWarehouseTotal(String warehouse) {
+        RollupNode node = warehouses.get(warehouse);
+        return node == null ? 0L : node.sum();
+    }
+
+    /**
+     * 창고 내 카테고리 재고 (미등록 카테고리는 0)
+     */
+    public long getCategoryTotal(String warehouse, String category) {
+        ConcurrentHashMap<String, RollupNode> byCategory = categories.get(warehouse);
+        RollupNode node = byCategory == null ? null : byCategory.get(category);
+        return node == null ? 0L : node.sum();
+    }
+
+    /**
+     * 상품별 리스너: 변경량을 카테고리 노드(와 조상)에 더함
+     */
+    private static final class Registration implements StockListener {
+        private final RollupNode node;
+
+        Registration(RollupNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public void onQuantityChanged(long before, long after) {
+            node.add(after - before);
+        }
+    }
+
+    /**
+     * 집계 노드: 자신과 모든 조상의 LongAdder에 변경량을 더함
+     */
+    private static final class RollupNode {
+        private final LongAdder total = new LongAdder();
+        private final RollupNode parent;
+
+        RollupNode(RollupNode parent) {
+            this.parent = parent;
+        }
+
+        void add(long delta) {
+            for (RollupNode node = this; node != null; node = node.parent) {
+                node.total.add(delta);
+            }
+        }
+
+        long sum() {
+            return total.sum();
+        }
+    }
+}
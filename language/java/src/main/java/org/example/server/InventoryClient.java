@@ -0,0 +1,118 @@
+package org.example.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * {@link InventoryServer} 블로킹 클라이언트 (스레드 안전하지 않음, 스레드당 하나 사용)
+ *
+ * 단건 호출(decrement / increment / getQuantity) 외에,
+ * send* 로 요청을 버퍼에 쌓고 flush 후 receive로 응답을 순서대로 읽는 파이프라이닝을 지원합니다.
+ *
+ * <pre>
+ * for (int i = 0; i < 32; i++) client.sendDecrement(productId, 1);
+ * client.flush();
+ * for (int i = 0; i < 32; i++) client.receive();
+ * </pre>
+ */
+public class InventoryClient implements AutoCloseable {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long lastValue;
+
+    public InventoryClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open();
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        this.channel.connect(address);
+        this.in.flip();
+    }
+
+    // ===== 단건 호출 =====
+
+    public int decrement(long productId, long quantity) throws IOException {
+        sendDecrement(productId, quantity);
+        flush();
+        return receive();
+    }
+
+    public int increment(long productId, long quantity) throws IOException {
+        sendIncrement(productId, quantity);
+        flush();
+        return receive();
+    }
+
+    public long getQuantity(long productId) throws IOException {
+        sendGet(productId);
+        flush();
+        receive();
+        return lastValue;
+    }
+
+    // ===== 파이프라이닝 =====
+
+    public void sendDecrement(long productId, long quantity) throws IOException {
+        send(InventoryProtocol.OP_DECREMENT, productId, quantity);
+    }
+
+    public void sendIncrement(long productId, long quantity) throws IOException {
+        send(InventoryProtocol.OP_INCREMENT, productId, quantity);
+    }
+
+    public void sendGet(long productId) throws IOException {
+        send(InventoryProtocol.OP_GET, productId, 0L);
+    }
+
+    /**
+     * 임의 opcode 요청 (프로토콜 오류 테스트용)
+     */
+    public void send(byte opcode, long productId, long quantity) throws IOException {
+        if (out.remaining() < InventoryProtocol.REQUEST_SIZE) {
+            flush();
+        }
+        out.put(opcode).putLong(productId).putLong(quantity);
+    }
+
+    /**
+     * 버퍼에 쌓인 요청을 전송
+     */
+    public void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * 다음 응답을 읽어 status를 반환 (GET의 재고는 {@link #getLastValue()})
+     */
+    public int receive() throws IOException {
+        while (in.remaining() < InventoryProtocol.RESPONSE_SIZE) {
+            in.compact();
+            int read = channel.read(in);
+            in.flip();
+            if (read < 0) {
+                throw new EOFException("connection closed by server");
+            }
+        }
+        int status = in.get();
+        lastValue = in.getLong();
+        return status;
+    }
+
+    public long getLastValue() {
+        return lastValue;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
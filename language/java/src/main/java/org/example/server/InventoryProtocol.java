@@ -0,0 +1,31 @@
+package org.example.server;
+
+/**
+ * 재고 서버 바이너리 프로토콜 (빅엔디안 고정 길이 프레임)
+ *
+ * <pre>
+ * 요청 (17 bytes): | opcode (1) | productId (8) | quantity (8) |
+ * 응답 ( 9 bytes): | status (1) | value (8)     |
+ * </pre>
+ *
+ * - 한 연결에서 응답을 기다리지 않고 여러 요청을 연속으로 보낼 수 있으며(pipelining),
+ *   응답은 요청 순서대로 돌아옵니다.
+ * - status는 {@link org.example.StockResult} 코드를 그대로 사용하고, 프로토콜 오류 코드를 추가합니다.
+ * - value는 GET 요청의 현재 재고이며, 증가/감소 요청에서는 0입니다.
+ */
+public final class InventoryProtocol {
+    public static final int REQUEST_SIZE = 17;
+    public static final int RESPONSE_SIZE = 9;
+
+    public static final byte OP_INCREMENT = 1;
+    public static final byte OP_DECREMENT = 2;
+    public static final byte OP_GET = 3;
+
+    /** 등록되지 않은 상품 */
+    public static final byte STATUS_UNKNOWN_PRODUCT = 10;
+    /** 알 수 없는 opcode 또는 음수 수량 */
+    public static final byte STATUS_BAD_REQUEST = 11;
+
+    private InventoryProtocol() {
+    }
+}
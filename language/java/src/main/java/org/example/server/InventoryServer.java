@@ -0,0 +1,306 @@
+package org.example.server;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongFunction;
+
+/**
+ * NIO Selector 기반 내장 재고 서버
+ *
+ * HTTP/JSON 래퍼 대신 {@link InventoryProtocol}의 고정 길이 바이너리 프레임으로 increment / decrement를 처리합니다.
+ *
+ * 스레드 구조:
+ * - accept 스레드 1개: 새 연결을 워커에 라운드로빈으로 배정
+ * - 워커(Selector) 스레드 N개: 연결별 읽기 → 버퍼에 모인 요청을 모두 처리 → 응답을 한 번에 쓰기(batching)
+ *
+ * 응답 버퍼가 가득 차면 남은 요청은 읽기 버퍼에 둔 채 읽기를 멈추고, 쓰기가 끝나면 다시 읽습니다(backpressure).
+ * 한 연결을 처리하다 예외(I/O 오류, 상품 조회 실패 등)가 나면 그 연결만 닫고 워커는 계속 동작합니다.
+ */
+public class InventoryServer implements AutoCloseable {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final LongFunction<? extends Stock> products;
+    private final ServerSocketChannel serverChannel;
+    private final Selector acceptSelector;
+    private final Worker[] workers;
+    private final Thread acceptThread;
+    private volatile boolean running = true;
+    private int nextWorker;
+
+    /**
+     * @param address  바인드 주소 (포트 0이면 임의 포트)
+     * @param workerThreads Selector 워커 스레드 수
+     * @param products 상품 ID → Stock (없으면 null)
+     */
+    public InventoryServer(InetSocketAddress address, int workerThreads, LongFunction<? extends Stock> products)
+            throws IOException {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+        this.products = products;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(address, 1024);
+        this.serverChannel.configureBlocking(false);
+        this.acceptSelector = Selector.open();
+        this.serverChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+
+        this.workers = new Worker[workerThreads];
+        for (int i = 0; i < workerThreads; i++) {
+            workers[i] = new Worker(i);
+            workers[i].thread.start();
+        }
+        this.acceptThread = new Thread(this::acceptLoop, "inventory-server-accept");
+        this.acceptThread.start();
+    }
+
+    /**
+     * 지정한 전략으로 상품 ID 0 ~ productCount - 1을 생성하는 카탈로그
+     */
+    public static LongFunction<Stock> catalog(StockStrategy strategy, int productCount, long initialQuantity) {
+        Stock[] stocks = new Stock[productCount];
+        for (int i = 0; i < productCount; i++) {
+            stocks[i] = strategy.create((long) i, "Product-" + i, initialQuantity, 1000L);
+        }
+        return productId -> productId >= 0 && productId < stocks.length ? stocks[(int) productId] : null;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        acceptSelector.wakeup();
+        for (Worker worker : workers) {
+            worker.selector.wakeup();
+        }
+        try {
+            acceptThread.join();
+            for (Worker worker : workers) {
+                worker.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 워커가 등록하기 전에 종료되어 대기열에 남은 연결
+        for (Worker worker : workers) {
+            worker.closePending();
+        }
+        serverChannel.close();
+        acceptSelector.close();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (running) {
+                acceptSelector.select();
+                acceptSelector.selectedKeys().clear();
+                SocketChannel channel;
+                while ((channel = serverChannel.accept()) != null) {
+                    try {
+                        channel.configureBlocking(false);
+                        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    } catch (IOException e) {
+                        closeChannel(channel);   // 수락 직후 끊긴 연결
+                        continue;
+                    }
+                    workers[nextWorker].assign(channel);
+                    nextWorker = (nextWorker + 1) % workers.length;
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 처리하고 응답을 out에 기록
+     */
+    private void handle(ByteBuffer in, ByteBuffer out) {
+        byte opcode = in.get();
+        long productId = in.getLong();
+        long quantity = in.getLong();
+
+        Stock stock = products.apply(productId);
+        if (stock == null) {
+            out.put(InventoryProtocol.STATUS_UNKNOWN_PRODUCT).putLong(0L);
+            return;
+        }
+        if (quantity < 0) {
+            out.put(InventoryProtocol.STATUS_BAD_REQUEST).putLong(0L);
+            return;
+        }
+        switch (opcode) {
+            case InventoryProtocol.OP_INCREMENT -> {
+                stock.increment(quantity);
+                out.put((byte) StockResult.SUCCESS).putLong(0L);
+            }
+            case InventoryProtocol.OP_DECREMENT -> out.put((byte) stock.tryDecrement(quantity)).putLong(0L);
+            case InventoryProtocol.OP_GET -> out.put((byte) StockResult.SUCCESS).putLong(stock.getQuantity());
+            default -> out.put(InventoryProtocol.STATUS_BAD_REQUEST).putLong(0L);
+        }
+    }
+
+    /**
+     * 연결별 읽기 / 쓰기 버퍼
+     */
+    private static final class Connection {
+        final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    private final class Worker implements Runnable {
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+
+        Worker(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "inventory-server-worker-" + index);
+        }
+
+        void assign(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerPending();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        try {
+                            if (key.isReadable()) {
+                                onReadable(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                onWritable(key);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            closeQuietly(key);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    throw new UncheckedIOException(e);
+                }
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    closeQuietly(key);
+                }
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                    // 종료 중
+                }
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    channel.register(selector, SelectionKey.OP_READ, new Connection());
+                } catch (IOException | RuntimeException e) {
+                    closeChannel(channel);
+                }
+            }
+        }
+
+        void closePending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                closeChannel(channel);
+            }
+        }
+
+        private void onReadable(SelectionKey key) throws IOException {
+            SocketChannel channel = (SocketChannel) key.channel();
+            Connection connection = (Connection) key.attachment();
+            if (channel.read(connection.in) < 0) {
+                closeQuietly(key);
+                return;
+            }
+            process(connection);
+            flush(key, connection);
+        }
+
+        private void onWritable(SelectionKey key) throws IOException {
+            Connection connection = (Connection) key.attachment();
+            flush(key, connection);
+            // 쓰기가 밀려 처리하지 못한 요청이 읽기 버퍼에 남아 있을 수 있음
+            if (connection.out.position() == 0 && connection.in.position() >= InventoryProtocol.REQUEST_SIZE) {
+                process(connection);
+                flush(key, connection);
+            }
+        }
+
+        /**
+         * 읽기 버퍼에 모인 완전한 요청을 응답 버퍼가 허용하는 만큼 처리
+         */
+        private void process(Connection connection) {
+            ByteBuffer in = connection.in;
+            ByteBuffer out = connection.out;
+            in.flip();
+            while (in.remaining() >= InventoryProtocol.REQUEST_SIZE
+                    && out.remaining() >= InventoryProtocol.RESPONSE_SIZE) {
+                handle(in, out);
+            }
+            in.compact();
+        }
+
+        /**
+         * 모인 응답을 한 번의 write로 전송, 다 쓰지 못하면 OP_WRITE로 전환하고 읽기를 멈춤
+         */
+        private void flush(SelectionKey key, Connection connection) throws IOException {
+            ByteBuffer out = connection.out;
+            if (out.position() > 0) {
+                out.flip();
+                ((SocketChannel) key.channel()).write(out);
+                out.compact();
+            }
+            if (out.position() > 0) {
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        private void closeQuietly(SelectionKey key) {
+            key.cancel();
+            closeChannel(key.channel());
+        }
+    }
+
+    private static void closeChannel(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package org.example.synchronization;
 
-public class Product {
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockListeners;
+import org.example.StockResult;
+
+import java.util.concurrent.TimeUnit;
+
+public class Product implements Stock {
     private Long id;
     private String name;
     private long quantity;
     private final long price;
+    private final StockListeners listeners = new StockListeners();
 
     public Product(Long id, String name, long quantity, long price) {
         this.id = id;
@@ -17,21 +25,82 @@ public class Product {
      * synchronized 키워드로 메서드 전체를 임계 영역으로 지정
      */
     public synchronized void increment(long quantity) {
+        long before = this.quantity;
         this.quantity += quantity;
+        listeners.fire(before, this.quantity);
+    }
+
+    /**
+     * 재고 감소 (임계 영역은 tryDecrement)
+     */
+    public boolean decrement(long quantity) {
+        return tryDecrement(quantity) == StockResult.SUCCESS;
     }
 
     /**
      * synchronized 키워드로 메서드 전체를 임계 영역으로 지정
+     * 모니터 락은 반드시 획득하므로 CONTENDED는 반환하지 않음
      */
-    public synchronized boolean decrement(long quantity) {
+    public synchronized int tryDecrement(long quantity) {
         if (this.quantity < quantity) {
-            return false;
+            return StockResult.INSUFFICIENT_STOCK;
         }
+        long before = this.quantity;
         this.quantity -= quantity;
-        return true;
+        listeners.fire(before, this.quantity);
+        return StockResult.SUCCESS;
+    }
+
+    /**
+     * 모니터 락은 시간 제한이나 인터럽트로 대기를 끊을 수 없음
+     * 대신 진입 전후로 마감과 인터럽트를 확인하여, 마감을 넘긴 요청은 재고를 건드리지 않고 TIMED_OUT
+     * (대기 자체는 줄지 않으므로 락 대기 제한이 필요하면 explicitlock 사용)
+     */
+    public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        synchronized (this) {
+            if (System.nanoTime() - deadline > 0) {
+                return StockResult.TIMED_OUT;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return tryDecrement(quantity);
+        }
+    }
+
+    /**
+     * 진입 전후로 마감과 인터럽트 확인 (tryDecrement와 동일한 제약)
+     */
+    public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        synchronized (this) {
+            if (System.nanoTime() - deadline > 0) {
+                return StockResult.TIMED_OUT;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            increment(quantity);
+            return StockResult.SUCCESS;
+        }
     }
 
     public synchronized long getQuantity() {
         return quantity;
     }
+
+    public void addStockListener(StockListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeStockListener(StockListener listener) {
+        return listeners.remove(listener);
+    }
 }
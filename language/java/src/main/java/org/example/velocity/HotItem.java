@@ -0,0 +1,33 @@
+package org.example.velocity;
+
+/**
+ * 판매 속도 상위 상품 조회 결과
+ */
+public final class HotItem {
+    private final long productId;
+    private final long unitsInWindow;
+    private final double unitsPerSecond;
+
+    public HotItem(long productId, long unitsInWindow, double unitsPerSecond) {
+        this.productId = productId;
+        this.unitsInWindow = unitsInWindow;
+        this.unitsPerSecond = unitsPerSecond;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public long getUnitsInWindow() {
+        return unitsInWindow;
+    }
+
+    public double getUnitsPerSecond() {
+        return unitsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HotItem[productId=%d, units=%d, %.1f/s]", productId, unitsInWindow, unitsPerSecond);
+    }
+}
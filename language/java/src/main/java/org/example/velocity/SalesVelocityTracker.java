@@ -0,0 +1,214 @@
+package org.example.velocity;
+
+import org.example.Stock;
+import org.example.StockListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품별 슬라이딩 윈도우 판매 속도 카운터
+ *
+ * 상품마다 시간 버킷의 링 버퍼를 두고, 성공한 감소량을 현재 버킷에 더합니다.
+ *
+ * - 락 없음: 버킷 하나는 long 하나에 (버킷 번호 상위 32비트 | 판매 수량 하위 32비트)로 담겨
+ *   "지난 버킷 초기화"와 "수량 증가"가 CAS 한 번으로 처리됨
+ * - 할당 없음: 모든 상품의 버킷은 하나의 AtomicLongArray (상품 × 버킷 수)
+ * - 조회: 윈도우 안의 버킷만 합산 (현재 버킷은 진행 중이므로 윈도우 경계에서 최대 버킷 하나만큼 오차)
+ * - 버킷 하나의 수량은 2^32 - 1에서 포화 (버킷 번호 비트로 넘치지 않음)
+ *
+ * 재고 변경 리스너로 연결되므로 Product의 감소 경로에 별도 동기화가 필요 없습니다.
+ */
+public class SalesVelocityTracker {
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final int capacity;
+    private final int buckets;
+    private final long bucketNanos;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final AtomicLongArray counters;
+    private final long[] productIds;
+    private final Stock[] stocks;
+    private final AtomicReferenceArray<StockListener> listeners;
+    private final ConcurrentHashMap<Long, Integer> slots = new ConcurrentHashMap<>();
+    private volatile int registered;
+
+    /**
+     * @param capacity 등록 가능한 최대 상품 수
+     * @param window   윈도우 길이
+     * @param buckets  윈도우를 나눌 버킷 수 (많을수록 정확하지만 조회 비용 증가)
+     */
+    public SalesVelocityTracker(int capacity, long window, TimeUnit unit, int buckets) {
+        this(capacity, window, unit, buckets, System::nanoTime);
+    }
+
+    SalesVelocityTracker(int capacity, long window, TimeUnit unit, int buckets, LongSupplier clock) {
+        if (capacity <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("capacity and buckets must be positive");
+        }
+        if ((long) capacity * buckets > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capacity * buckets too large");
+        }
+        this.bucketNanos = unit.toNanos(window) / buckets;
+        if (bucketNanos <= 0) {
+            throw new IllegalArgumentException("window must be at least one nanosecond per bucket");
+        }
+        this.capacity = capacity;
+        this.buckets = buckets;
+        this.windowNanos = bucketNanos * buckets;
+        this.clock = clock;
+        this.counters = new AtomicLongArray(capacity * buckets);
+        this.productIds = new long[capacity];
+        this.stocks = new Stock[capacity];
+        this.listeners = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 상품을 등록하고 재고 변경 리스너를 추가 (다른 리스너는 유지)
+     * 수량이 줄어든 변경(성공한 감소)만 판매로 기록
+     */
+    public synchronized void register(long productId, Stock stock) {
+        if (registered == capacity) {
+            throw new IllegalStateException(String.format("tracker capacity exceeded (%d)", capacity));
+        }
+        if (slots.containsKey(productId)) {
+            throw new IllegalArgumentException("product already registered: " + productId);
+        }
+        int slot = registered;
+        StockListener listener = (before, after) -> {
+            if (after < before) {
+                record(slot, before - after);
+            }
+        };
+        productIds[slot] = productId;
+        stocks[slot] = stock;
+        listeners.set(slot, listener);
+        slots.put(productId, slot);
+        registered = slot + 1;
+        stock.addStockListener(listener);
+    }
+
+    /**
+     * 이 카운터가 추가한 리스너만 제거하고 조회 대상에서 제외
+     * 슬롯은 재사용하지 않으므로 등록 가능한 상품 수는 늘어나지 않음
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean unregister(long productId) {
+        Integer slot = slots.remove(productId);
+        if (slot == null) {
+            return false;
+        }
+        stocks[slot].removeStockListener(listeners.getAndSet(slot, null));
+        stocks[slot] = null;
+        return true;
+    }
+
+    /**
+     * 윈도우 안의 판매 수량 (미등록 상품은 0)
+     */
+    public long getUnitsInWindow(long productId) {
+        Integer slot = slots.get(productId);
+        return slot == null ? 0L : unitsInWindow(slot, epoch(clock.getAsLong()));
+    }
+
+    /**
+     * 초당 판매 수량 (윈도우 평균)
+     */
+    public double getUnitsPerSecond(long productId) {
+        return toPerSecond(getUnitsInWindow(productId));
+    }
+
+    /**
+     * 윈도우 안의 판매 수량 상위 k개 (내림차순, 판매 없는 상품 제외)
+     */
+    public List<HotItem> topK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        long epoch = epoch(clock.getAsLong());
+        int count = registered;
+        // 최소 힙에 k개만 유지: O(n log k)
+        PriorityQueue<long[]> heap = new PriorityQueue<>(k + 1, Comparator.comparingLong(entry -> entry[1]));
+        for (int slot = 0; slot < count; slot++) {
+            if (listeners.get(slot) == null) {
+                continue;
+            }
+            long units = unitsInWindow(slot, epoch);
+            if (units == 0 || (heap.size() == k && units <= heap.peek()[1])) {
+                continue;
+            }
+            heap.add(new long[]{productIds[slot], units});
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<HotItem> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            long[] entry = heap.poll();
+            result.add(new HotItem(entry[0], entry[1], toPerSecond(entry[1])));
+        }
+        result.sort(Comparator.comparingLong(HotItem::getUnitsInWindow).reversed());
+        return result;
+    }
+
+    /**
+     * 현재 버킷에 판매 수량 추가
+     *
+     * - 버킷 번호가 같으면 수량만 더함 (하위 32비트에서 포화, 버킷 번호로 넘치지 않음)
+     * - 호출자의 버킷 번호가 더 새로우면(한 바퀴 전 버킷이거나 빈 버킷) 같은 CAS로 초기화하면서 기록
+     * - 호출자의 버킷 번호가 더 오래되었으면(시계를 읽은 뒤 늦게 도착) 버킷이 이미 한 바퀴 이상 지난 것이므로
+     *   윈도우 밖의 판매로 보고 버림 (새 버킷의 수량을 덮어쓰지 않음)
+     */
+    private void record(int slot, long units) {
+        long epoch = epoch(clock.getAsLong());
+        int index = slot * buckets + (int) Math.floorMod(epoch, (long) buckets);
+        long tag = (epoch & COUNT_MASK) << 32;
+        long clamped = Math.min(units, COUNT_MASK);
+        while (true) {
+            long current = counters.get(index);
+            long count = current & COUNT_MASK;
+            int age = (int) epoch - (int) (current >>> 32);
+            long next;
+            if (age == 0) {
+                next = (current & ~COUNT_MASK) | Math.min(count + clamped, COUNT_MASK);
+            } else if (age > 0 || count == 0) {
+                next = tag | clamped;
+            } else {
+                return;
+            }
+            if (next == current || counters.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private long unitsInWindow(int slot, long epoch) {
+        long total = 0;
+        int base = slot * buckets;
+        for (int i = 0; i < buckets; i++) {
+            long value = counters.get(base + i);
+            int age = (int) epoch - (int) (value >>> 32);
+            if (age >= 0 && age < buckets) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    private long epoch(long nanos) {
+        return Math.floorDiv(nanos, bucketNanos);
+    }
+
+    private double toPerSecond(long units) {
+        return units * 1_000_000_000.0 / windowNanos;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.admission;
+
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockResult;
+import org.example.atomic.AlwaysContendedProduct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[admission] 수락 제어 테스트")
+class AdmissionControlledProductTest {
+
+    @Test
+    @DisplayName("[AIMD] 목표 지연 초과 시 한도 감소, 이하이면 증가")
+    void aimd_한도_조절() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, TimeUnit.MILLISECONDS.toNanos(1), 0.5);
+
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(5, limit.getLimit(), "지연 초과 시 한도가 절반으로 감소해야 함");
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        assertTrue(limit.getLimit() > 5, "지연이 목표 이하이면 한도가 증가해야 함");
+        assertTrue(limit.getLimit() <= 20, "한도는 maxLimit을 넘을 수 없음");
+    }
+
+    @Test
+    @DisplayName("[수락 제어] 한도를 넘는 호출은 즉시 OVERLOADED로 거절")
+    void 한도_초과_시_즉시_거절() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingStock delegate = new BlockingStock(10L, entered, release);
+        AdmissionControlledProduct product = new AdmissionControlledProduct(delegate,
+            new AimdLimit(1, 1, 1, TimeUnit.SECONDS.toNanos(1), 0.5));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<AdmissionResult> first = executor.submit(() -> product.decrement(1));
+        assertTrue(entered.await(5, TimeUnit.SECONDS), "첫 번째 호출이 연산에 진입해야 함");
+
+        assertEquals(AdmissionResult.OVERLOADED, product.decrement(1), "한도(1) 초과 호출은 거절되어야 함");
+        assertEquals(1L, product.getRejectedCount());
+
+        release.countDown();
+        assertEquals(AdmissionResult.SUCCESS, first.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(0, product.getInFlight(), "완료 후 진행 중인 연산이 없어야 함");
+        assertEquals(9L, product.getQuantity(), "거절된 호출은 재고를 변경하지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("[수락 제어] 재고 부족은 OVERLOADED와 구분됨")
+    void 재고_부족_결과_구분() {
+        AdmissionControlledProduct product = new AdmissionControlledProduct(
+            new org.example.synchronization.Product(1L, "MacBook", 5L, 2000000L),
+            new AimdLimit(4, 1, 8, TimeUnit.SECONDS.toNanos(1), 0.5));
+
+        assertEquals(AdmissionResult.INSUFFICIENT_STOCK, product.decrement(10));
+        assertEquals(AdmissionResult.SUCCESS, product.increment(5));
+        assertEquals(10L, product.getQuantity());
+    }
+
+    @Test
+    @DisplayName("[수락 제어] CAS 경합 소진은 OVERLOADED가 아닌 CONTENDED로 구분하여 집계")
+    void 경합_결과_구분() {
+        AdmissionControlledProduct product = new AdmissionControlledProduct(
+            new AlwaysContendedProduct(1L, "MacBook", 5L, 2000000L),
+            new AimdLimit(4, 1, 8, TimeUnit.SECONDS.toNanos(1), 0.5));
+
+        assertEquals(AdmissionResult.CONTENDED, product.decrement(1));
+        assertEquals(1L, product.getContendedCount());
+        assertEquals(0L, product.getRejectedCount(), "한도 거절 수에는 포함되지 않아야 함");
+        assertEquals(5L, product.getQuantity());
+    }
+
+    /**
+     * 첫 번째 감소 호출을 release 될 때까지 붙잡아 두는 테스트용 Stock
+     */
+    private static class BlockingStock implements Stock {
+        private final CountDownLatch entered;
+        private final CountDownLatch release;
+        private long quantity;
+
+        BlockingStock(long quantity, CountDownLatch entered, CountDownLatch release) {
+            this.quantity = quantity;
+            this.entered = entered;
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void increment(long quantity) {
+            this.quantity += quantity;
+        }
+
+        @Override
+        public boolean decrement(long quantity) {
+            return tryDecrement(quantity) == StockResult.SUCCESS;
+        }
+
+        @Override
+        public int tryDecrement(long quantity) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                if (this.quantity < quantity) {
+                    return StockResult.INSUFFICIENT_STOCK;
+                }
+                this.quantity -= quantity;
+                return StockResult.SUCCESS;
+            }
+        }
+
+        @Override
+        public int tryDecrement(long quantity, long timeout, TimeUnit unit) {
+            return tryDecrement(quantity);
+        }
+
+        @Override
+        public synchronized int tryIncrement(long quantity, long timeout, TimeUnit unit) {
+            this.quantity += quantity;
+            return StockResult.SUCCESS;
+        }
+
+        @Override
+        public synchronized long getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public void addStockListener(StockListener listener) {
+        }
+
+        @Override
+        public boolean removeStockListener(StockListener listener) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.atomic;
+
+/**
+ * CAS가 항상 실패하는 atomic Product (테스트 / 벤치마크 전용)
+ *
+ * 실제 경합으로는 재시도 100회를 모두 소진하기 어려우므로,
+ * CAS 한 번만 바꿔 tryDecrement의 재시도 루프 전체와 CONTENDED 반환 경로를 결정적으로 실행합니다.
+ */
+public class AlwaysContendedProduct extends Product {
+
+    public AlwaysContendedProduct(Long id, String name, long quantity, long price) {
+        super(id, name, quantity, price);
+    }
+
+    @Override
+    boolean compareAndSetQuantity(long expected, long next) {
+        return false;
+    }
+}
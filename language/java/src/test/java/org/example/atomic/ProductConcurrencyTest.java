@@ -1,5 +1,6 @@
 package org.example.atomic;
 
+import org.example.StockResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +64,34 @@ class ProductConcurrencyTest {
         assertEquals(5L, product.getQuantity(), "재고는 변경되지 않아야 함");
     }
 
+    @Test
+    @DisplayName("[AtomicLong ✅] 마감 기반 CAS 루프 - 성공 / 재고 부족 / 인터럽트")
+    void atomic_제한_시간_감소() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 1L, 2000000L);
+
+        assertEquals(StockResult.SUCCESS, product.tryDecrement(1, 10, TimeUnit.MILLISECONDS));
+        assertEquals(StockResult.INSUFFICIENT_STOCK, product.tryDecrement(1, 10, TimeUnit.MILLISECONDS));
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> product.tryIncrement(1, 10, TimeUnit.MILLISECONDS));
+        assertFalse(Thread.currentThread().isInterrupted(), "InterruptedException과 함께 인터럽트 상태는 해제되어야 함");
+        assertEquals(0L, product.getQuantity());
+    }
+
+    @Test
+    @DisplayName("[AtomicLong ✅] 경합으로 CAS가 계속 실패하면 마감 후 TIMED_OUT, 재고 변경 없음")
+    void atomic_경합_시_제한_시간_초과() throws InterruptedException {
+        Product product = new AlwaysContendedProduct(1L, "MacBook", 100L, 2000000L);
+
+        long start = System.nanoTime();
+        int result = product.tryDecrement(1, 20, TimeUnit.MILLISECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(StockResult.TIMED_OUT, result);
+        assertTrue(elapsedMillis >= 20, "마감까지 CAS를 재시도해야 함 (실제: " + elapsedMillis + "ms)");
+        assertEquals(100L, product.getQuantity(), "시간 초과된 감소는 반영되지 않아야 함");
+    }
+
     private long runConcurrentIncrement(Product product, int threadCount) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CountDownLatch startLatch = new CountDownLatch(1);
@@ -0,0 +1,195 @@
+package org.example.catalog;
+
+import org.example.StockResult;
+import org.example.counter.PaddedCounterArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[catalog] 상품 정보 캐시 테스트")
+class MetadataCacheTest {
+
+    private InMemoryMetadataBackend backend(int products) {
+        InMemoryMetadataBackend backend = new InMemoryMetadataBackend();
+        for (int i = 0; i < products; i++) {
+            backend.put(new ProductMetadata(i, "Item" + i, 1000L + i));
+        }
+        return backend;
+    }
+
+    @Test
+    @DisplayName("read-through: 첫 조회만 원본 저장소를 호출, 없는 상품은 저장하지 않음")
+    void 읽기_통과() {
+        InMemoryMetadataBackend backend = backend(10);
+        MetadataCache cache = new MetadataCache(100, backend);
+
+        assertEquals("Item3", cache.get(3L).getName());
+        assertEquals(1003L, cache.get(3L).getPrice());
+        assertEquals(1L, backend.getLoadCount());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+
+        assertNull(cache.get(99L));
+        assertNull(cache.getIfPresent(99L));
+        assertEquals(1, cache.size(), "없는 상품은 캐시에 저장하지 않아야 함");
+
+        cache.invalidate(3L);
+        assertNull(cache.getIfPresent(3L));
+        cache.get(3L);
+        assertEquals(3L, backend.getLoadCount(), "invalidate 후에는 다시 로딩해야 함");
+    }
+
+    @Test
+    @DisplayName("크기 제한: 한 번씩만 조회된 상품이 자주 조회되는 상품을 밀어내지 못함")
+    void 빈도_기반_수락() {
+        MetadataCache cache = new MetadataCache(100, backend(100_000));
+        for (int round = 0; round < 5; round++) {
+            for (long id = 0; id < 50; id++) {
+                cache.get(id);
+            }
+        }
+        // 한 번씩만 조회되는 상품 10,000개 (scan) 사이사이 인기 상품 조회
+        for (long id = 1_000; id < 11_000; id++) {
+            cache.get(id);
+            cache.get(id % 50);
+        }
+
+        assertTrue(cache.size() <= 100, "최대 크기를 넘지 않아야 함: " + cache.size());
+        int retained = 0;
+        for (long id = 0; id < 50; id++) {
+            if (cache.getIfPresent(id) != null) {
+                retained++;
+            }
+        }
+        assertEquals(50, retained, "자주 조회된 상품은 scan 이후에도 남아 있어야 함");
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    @DisplayName("[동시성 ✅] 100개 스레드가 동시에 조회 → 크기 제한 유지, 값 일치")
+    void 동시_조회() throws InterruptedException {
+        MetadataCache cache = new MetadataCache(500, backend(5_000));
+        int threadCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 2_000; j++) {
+                        long id = random.nextInt(5_000);
+                        assertEquals("Item" + id, cache.get(id).getName());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertTrue(cache.size() <= 500, "최대 크기를 넘지 않아야 함: " + cache.size());
+        assertEquals(200_000L, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("[동시성 ✅] 느린 로딩은 같은 bin의 다른 상품 조회를 막지 않고, 같은 상품 조회는 한 번만 로딩")
+    void 로딩_중_다른_상품_조회() throws Exception {
+        InMemoryMetadataBackend backend = backend(2_000);
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger slowLoads = new AtomicInteger();
+        MetadataCache cache = new MetadataCache(10, productId -> {
+            if (productId == 0L) {
+                slowLoads.incrementAndGet();
+                loadingStarted.countDown();
+                try {
+                    releaseLoad.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return backend.load(productId);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<ProductMetadata> slow = executor.submit(() -> cache.get(0L));
+            assertTrue(loadingStarted.await(5, TimeUnit.SECONDS));
+            Future<ProductMetadata> duplicate = executor.submit(() -> cache.get(0L));
+
+            // 1024는 테이블 크기와 무관하게 0과 같은 bin: loader가 bin 락 안에서 돌면 여기서 막힘
+            ProductMetadata other = executor.submit(() -> cache.get(1_024L)).get(5, TimeUnit.SECONDS);
+            assertEquals("Item1024", other.getName());
+            assertFalse(slow.isDone(), "상품 0은 아직 로딩 중");
+
+            releaseLoad.countDown();
+            assertEquals("Item0", slow.get(5, TimeUnit.SECONDS).getName());
+            assertEquals("Item0", duplicate.get(5, TimeUnit.SECONDS).getName());
+            assertEquals(1, slowLoads.get(), "같은 상품의 동시 미스는 한 번만 로딩");
+        } finally {
+            releaseLoad.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로딩 중 invalidate되면 이전 값을 캐시에 남기지 않음")
+    void 로딩_중_무효화() throws Exception {
+        InMemoryMetadataBackend backend = backend(10);
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        MetadataCache cache = new MetadataCache(10, productId -> {
+            ProductMetadata value = backend.load(productId);
+            loadingStarted.countDown();
+            try {
+                releaseLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ProductMetadata> loading = executor.submit(() -> cache.get(3L));
+            assertTrue(loadingStarted.await(5, TimeUnit.SECONDS));
+            backend.put(new ProductMetadata(3L, "Renamed", 5000L));
+            executor.submit(() -> cache.invalidate(3L)).get(5, TimeUnit.SECONDS);  // 로딩이 끝나기를 기다리지 않음
+            releaseLoad.countDown();
+
+            assertEquals("Item3", loading.get(5, TimeUnit.SECONDS).getName(), "호출자에게는 읽은 값을 반환");
+            assertNull(cache.getIfPresent(3L), "invalidate 이전에 읽은 값은 캐시에 남지 않아야 함");
+        } finally {
+            releaseLoad.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("카탈로그: 재고는 조밀한 카운터, 상품 정보는 캐시에서 조회")
+    void 카탈로그() {
+        InMemoryMetadataBackend backend = backend(1_000);
+        Catalog catalog = new Catalog(PaddedCounterArray.dense(1_000), new MetadataCache(10, backend));
+        catalog.increment(7, 3);
+
+        assertEquals(StockResult.SUCCESS, catalog.tryDecrement(7, 2));
+        assertEquals(StockResult.INSUFFICIENT_STOCK, catalog.tryDecrement(7, 2));
+        assertEquals(1L, catalog.getQuantity(7));
+        assertEquals(0L, backend.getLoadCount(), "재고 연산은 상품 정보를 로딩하지 않아야 함");
+        assertEquals(1007L, catalog.getMetadata(7).getPrice());
+    }
+}
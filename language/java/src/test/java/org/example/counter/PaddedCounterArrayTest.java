@@ -0,0 +1,81 @@
+package org.example.counter;
+
+import org.example.StockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[counter] 패딩 카운터 배열 테스트")
+class PaddedCounterArrayTest {
+
+    @Test
+    @DisplayName("stride와 무관하게 카운터는 서로 독립")
+    void 카운터_독립성() {
+        for (int stride : new int[]{PaddedCounterArray.DENSE, 2, PaddedCounterArray.CACHE_LINE, PaddedCounterArray.ADJACENT_LINE_PAIR}) {
+            PaddedCounterArray counters = new PaddedCounterArray(4, stride);
+            for (int i = 0; i < 4; i++) {
+                counters.set(i, i * 10L);
+            }
+            counters.addAndGet(1, 5);
+
+            assertEquals(0L, counters.get(0));
+            assertEquals(15L, counters.get(1));
+            assertEquals(20L, counters.get(2));
+            assertEquals(30L, counters.get(3));
+            assertEquals(StockResult.INSUFFICIENT_STOCK, counters.tryDecrement(0, 1));
+            assertEquals(StockResult.SUCCESS, counters.tryDecrement(3, 30));
+            assertEquals(0L, counters.get(3));
+        }
+    }
+
+    @Test
+    @DisplayName("패딩은 메모리를 stride배 사용")
+    void 메모리_사용량() {
+        // 앞뒤로 stride개씩 비우고 마지막 카운터 1칸: (size + 1) × stride + 1
+        assertEquals((1000 + 1) * 8L + 8L, PaddedCounterArray.dense(1000).footprintBytes());
+        assertEquals((1000 + 1) * 128L + 8L, PaddedCounterArray.padded(1000).footprintBytes());
+        assertThrows(IllegalArgumentException.class, () -> new PaddedCounterArray(10, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PaddedCounterArray.dense(10).get(10));
+    }
+
+    @Test
+    @DisplayName("[CAS ✅] 100개 스레드가 같은 상품 감소 → 초과 판매 없음")
+    void 동시_감소_초과_판매_없음() throws InterruptedException {
+        PaddedCounterArray counters = PaddedCounterArray.padded(2);
+        counters.set(0, 1_000L);
+        counters.set(1, 7L);
+        int threadCount = 100;
+        AtomicLong successCount = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < 20; j++) {
+                        if (counters.tryDecrement(0, 1) == StockResult.SUCCESS) {
+                            successCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(1_000L, successCount.get(), "재고 1000개에서 2000번 시도 시 정확히 1000번 성공해야 함");
+        assertEquals(0L, counters.get(0));
+        assertEquals(7L, counters.get(1), "인접 상품은 영향받지 않아야 함");
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.explicitlock;
 
+import org.example.StockListener;
+import org.example.StockResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,62 @@ class ProductConcurrencyTest {
         assertEquals(0L, product.getQuantity(), "100개 재고에서 100번 감소하면 0이어야 함");
     }
 
+    @Test
+    @DisplayName("[ReentrantLock ✅] 락을 제한 시간 안에 얻지 못하면 TIMED_OUT, 재고 변경 없음")
+    void reentrantLock_제한_시간_초과() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 100L, 2000000L);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = holdLock(product, holding, release);
+
+        long start = System.nanoTime();
+        int result = product.tryDecrement(1, 50, TimeUnit.MILLISECONDS);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        holder.join();
+
+        assertEquals(StockResult.TIMED_OUT, result);
+        assertTrue(waitedMillis >= 50, "최소 제한 시간만큼 대기해야 함: " + waitedMillis + "ms");
+        assertEquals(101L, product.getQuantity(), "시간 초과된 감소는 반영되지 않아야 함 (holder의 increment만 반영)");
+    }
+
+    @Test
+    @DisplayName("[ReentrantLock ✅] 락 대기 중 인터럽트 → InterruptedException")
+    void reentrantLock_대기_중_인터럽트() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 100L, 2000000L);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = holdLock(product, holding, release);
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> product.tryDecrement(1, 10, TimeUnit.SECONDS));
+        release.countDown();
+        holder.join();
+
+        assertEquals(StockResult.SUCCESS, product.tryDecrement(1, 1, TimeUnit.SECONDS));
+        assertEquals(100L, product.getQuantity());
+    }
+
+    /**
+     * 리스너 안에서 대기하여 increment가 락을 쥔 상태로 멈추게 함
+     */
+    private Thread holdLock(Product product, CountDownLatch holding, CountDownLatch release) throws InterruptedException {
+        StockListener blocking = (before, after) -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        product.addStockListener(blocking);
+        Thread holder = new Thread(() -> product.increment(1));
+        holder.start();
+        holding.await();
+        product.removeStockListener(blocking);
+        return holder;
+    }
+
     private long runConcurrentIncrement(Product product, int threadCount) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CountDownLatch startLatch = new CountDownLatch(1);
@@ -0,0 +1,133 @@
+package org.example.feed;
+
+import org.example.atomic.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[feed] 재고 변경 스트림 테스트")
+class StockChangeFeedTest {
+
+    @Test
+    @DisplayName("[feed] 품절 / 재입고 전환 이벤트 전달")
+    void 품절_재입고_이벤트() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 1L, 2000000L);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        try (StockChangeFeed feed = new StockChangeFeed(16)) {
+            feed.register(1L, product);
+            feed.subscribe(subscriber);
+
+            product.decrement(1);
+            StockChange soldOut = subscriber.events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(soldOut, "품절 이벤트가 전달되어야 함");
+            assertEquals(StockChange.Type.SOLD_OUT, soldOut.getType());
+            assertEquals(1L, soldOut.getProductId());
+
+            product.increment(3);
+            StockChange backInStock = subscriber.events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(backInStock, "재입고 이벤트가 전달되어야 함");
+            assertEquals(StockChange.Type.BACK_IN_STOCK, backInStock.getType());
+            assertEquals(3L, backInStock.getQuantity());
+        }
+    }
+
+    @Test
+    @DisplayName("[feed] 느린 구독자에게는 변경이 상품별로 하나로 합쳐져 전달")
+    void 느린_구독자_합치기() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 1000L, 2000000L);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        try (StockChangeFeed feed = new StockChangeFeed(16)) {
+            feed.register(1L, product);
+            feed.subscribe(subscriber);
+
+            for (int i = 0; i < 1000; i++) {
+                product.decrement(1);
+            }
+            subscriber.subscription.request(1);
+
+            StockChange change = subscriber.events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(change, "합쳐진 이벤트가 전달되어야 함");
+            assertEquals(1000L, change.getPreviousQuantity());
+            assertEquals(0L, change.getQuantity());
+            assertEquals(StockChange.Type.SOLD_OUT, change.getType());
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertNull(subscriber.events.poll(100, TimeUnit.MILLISECONDS), "1000번의 감소는 이벤트 하나로 합쳐져야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("[feed] close 시 구독자에게 onComplete 전달")
+    void 종료_시_완료_신호() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        StockChangeFeed feed = new StockChangeFeed(4);
+        feed.subscribe(subscriber);
+
+        feed.close();
+
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS), "onComplete가 호출되어야 함");
+    }
+
+    @Test
+    @DisplayName("[feed] 잘못된 request(n)의 onError는 호출 스레드가 아닌 drainer 스레드에서 전달")
+    void 잘못된_요청_오류_직렬_전달() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        try (StockChangeFeed feed = new StockChangeFeed(4)) {
+            feed.subscribe(subscriber);
+            subscriber.subscription.request(0);
+
+            Throwable error = subscriber.errors.poll(5, TimeUnit.SECONDS);
+            assertNotNull(error, "onError가 전달되어야 함");
+            assertTrue(error instanceof IllegalArgumentException);
+            assertEquals("stock-change-feed", subscriber.errorThread, "onNext와 겹치지 않도록 drainer 스레드에서 전달");
+        }
+        assertEquals(1, subscriber.completed.getCount(), "오류 후에는 onComplete가 전달되지 않아야 함");
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<StockChange> {
+        private final long initialRequest;
+        private final BlockingQueue<StockChange> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        private volatile String errorThread;
+        private volatile Flow.Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(StockChange item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errorThread = Thread.currentThread().getName();
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
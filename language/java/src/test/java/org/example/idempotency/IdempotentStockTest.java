@@ -0,0 +1,187 @@
+package org.example.idempotency;
+
+import org.example.StockListener;
+import org.example.StockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[idempotency] 멱등 재고 연산 테스트")
+class IdempotentStockTest {
+
+    @Test
+    @DisplayName("[멱등] 같은 요청 ID로 재시도하면 다시 감소하지 않고 처음 결과 반환")
+    void 재시도_시_처음_결과_반환() {
+        IdempotentStock stock = new IdempotentStock(
+            new org.example.atomic.Product(1L, "MacBook", 10L, 2000000L),
+            new RequestDedupCache(1024, 1, TimeUnit.MINUTES));
+
+        assertEquals(StockResult.SUCCESS, stock.decrement(100L, 3));
+        assertEquals(StockResult.SUCCESS, stock.decrement(100L, 3), "재시도는 같은 결과");
+        assertEquals(7L, stock.getQuantity(), "재시도로 재고가 두 번 감소하면 안 됨");
+
+        assertEquals(StockResult.INSUFFICIENT_STOCK, stock.decrement(200L, 20));
+        assertEquals(StockResult.SUCCESS, stock.increment(300L, 20));
+        assertEquals(StockResult.SUCCESS, stock.increment(300L, 20));
+        assertEquals(27L, stock.getQuantity(), "증가 재시도도 한 번만 반영");
+        assertEquals(StockResult.INSUFFICIENT_STOCK, stock.decrement(200L, 20), "재입고 후에도 처음 결과(재고 부족) 반환");
+    }
+
+    @Test
+    @DisplayName("[멱등] 같은 요청 ID가 동시에 들어와도 한 번만 실행")
+    void 동시_중복_요청() throws InterruptedException {
+        org.example.synchronization.Product product = new org.example.synchronization.Product(1L, "MacBook", 100L, 2000000L);
+        IdempotentStock stock = new IdempotentStock(product, new RequestDedupCache(1024, 1, TimeUnit.MINUTES));
+        int threadCount = 100;
+        AtomicInteger successCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    if (stock.decrement(42L, 1) == StockResult.SUCCESS) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(threadCount, successCount.get(), "모든 호출이 같은 결과(SUCCESS)를 받아야 함");
+        assertEquals(99L, product.getQuantity(), "실제 감소는 한 번만 일어나야 함");
+    }
+
+    @Test
+    @DisplayName("[dedup 캐시] ttl이 지나면 같은 ID를 새 요청으로 처리")
+    void 시간_만료() throws InterruptedException {
+        RequestDedupCache cache = new RequestDedupCache(1024, 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(1L));
+        cache.complete(1L, StockResult.SUCCESS);
+        assertEquals(StockResult.SUCCESS, cache.claim(1L));
+
+        Thread.sleep(50);
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(1L), "만료 후에는 다시 선점 가능");
+    }
+
+    @Test
+    @DisplayName("[dedup 캐시] 용량을 넘으면 오래된 항목부터 제거")
+    void 크기_제한() {
+        int capacity = 4096;
+        RequestDedupCache cache = new RequestDedupCache(capacity, 1, TimeUnit.MINUTES);
+
+        for (long id = 0; id < capacity * 4L; id++) {
+            assertEquals(RequestDedupCache.CLAIMED, cache.claim(id));
+            cache.complete(id, StockResult.SUCCESS);
+        }
+
+        assertTrue(cache.size() <= capacity, "보관 항목 수는 capacity 이하 (실제: " + cache.size() + ")");
+        assertEquals(StockResult.SUCCESS, cache.claim(capacity * 4L - 1), "가장 최근 항목은 남아 있어야 함");
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(0L), "가장 오래된 항목은 제거되어야 함");
+    }
+
+    @Test
+    @DisplayName("[dedup 캐시] 해제(abort)한 요청은 재시도 시 다시 실행")
+    void 해제_후_재실행() {
+        RequestDedupCache cache = new RequestDedupCache(1024, 1, TimeUnit.MINUTES);
+
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(7L));
+        assertEquals(RequestDedupCache.PENDING, cache.claim(7L), "처리 중인 요청");
+        cache.abort(7L);
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(7L));
+    }
+
+    @Test
+    @DisplayName("[dedup 캐시] 처리 중(PENDING) 항목은 ttl이 지나도 넘어가지 않고, 선점한 스레드만 완료 / 해제 가능")
+    void 처리_중_항목_선점_유지() throws Exception {
+        RequestDedupCache cache = new RequestDedupCache(1024, 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(7L));
+        Thread.sleep(50);
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(RequestDedupCache.PENDING, (int) other.submit(() -> cache.claim(7L)).get(),
+                "ttl보다 오래 걸리는 요청도 다른 재시도에 넘어가면 두 번 실행됨");
+            other.submit(() -> cache.complete(7L, StockResult.INSUFFICIENT_STOCK)).get();
+            other.submit(() -> cache.abort(7L)).get();
+            assertEquals(RequestDedupCache.PENDING, cache.claim(7L), "선점하지 않은 스레드의 complete / abort는 무시");
+        } finally {
+            other.shutdown();
+        }
+
+        cache.complete(7L, StockResult.SUCCESS);
+        assertEquals(StockResult.SUCCESS, cache.claim(7L));
+        Thread.sleep(50);
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(7L), "완료된 결과는 ttl이 지나면 만료");
+    }
+
+    @Test
+    @DisplayName("[dedup 캐시] 크기 제한은 처리 중인 항목을 밀어내지 않고, 모두 처리 중이면 새 요청을 거절")
+    void 처리_중_항목_크기_제한() {
+        int capacity = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;  // 세그먼트 수
+        RequestDedupCache cache = new RequestDedupCache(capacity, 1, TimeUnit.MINUTES);  // 세그먼트당 1개
+        List<Long> claimed = new ArrayList<>();
+        int rejected = 0;
+        for (long requestId = 0; requestId < 10_000; requestId++) {
+            int result = cache.claim(requestId);
+            if (result == RequestDedupCache.CLAIMED) {
+                claimed.add(requestId);
+            } else {
+                assertEquals(RequestDedupCache.REJECTED, result, "처리 중인 세그먼트에 들어갈 새 요청은 거절");
+                rejected++;
+            }
+        }
+
+        assertEquals(capacity, claimed.size(), "세그먼트마다 처리 중인 요청 하나만 선점");
+        assertEquals(10_000 - capacity, rejected);
+        for (long requestId : claimed) {
+            assertEquals(RequestDedupCache.PENDING, cache.claim(requestId), "처리 중인 항목은 밀려나지 않아야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("[멱등 ✅] 같은 ID가 처리 중이면 pendingWait까지만 대기 후 실행 없이 TIMED_OUT")
+    void 처리_중_대기_상한() {
+        RequestDedupCache cache = new RequestDedupCache(1024, 1, TimeUnit.MINUTES);
+        org.example.atomic.Product product = new org.example.atomic.Product(1L, "MacBook", 10L, 2000000L);
+        IdempotentStock stock = new IdempotentStock(product, cache, 50, TimeUnit.MILLISECONDS);
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(42L));  // 다른 호출자가 선점한 채 멈춤
+
+        long start = System.nanoTime();
+        assertEquals(StockResult.TIMED_OUT, stock.decrement(42L, 1));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 50 && elapsedMillis < 1_000, "대기 시간은 pendingWait 근처여야 함 (실제: " + elapsedMillis + "ms)");
+        assertEquals(10L, product.getQuantity(), "대기 시간 초과 시 실행하지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("[멱등 ✅] RuntimeException이 아닌 Error로 끝나도 선점을 해제")
+    void 오류_시_선점_해제() {
+        RequestDedupCache cache = new RequestDedupCache(1024, 1, TimeUnit.MINUTES);
+        org.example.atomic.Product product = new org.example.atomic.Product(1L, "MacBook", 10L, 2000000L);
+        StockListener failing = (before, after) -> {
+            throw new AssertionError("listener failure");
+        };
+        product.addStockListener(failing);
+        IdempotentStock stock = new IdempotentStock(product, cache);
+
+        assertThrows(AssertionError.class, () -> stock.decrement(42L, 1));
+        assertEquals(RequestDedupCache.CLAIMED, cache.claim(42L), "Error 후에도 선점이 남아 있으면 재시도가 계속 막힘");
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.partition;
+
+import org.example.StockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[partition] 파티션 재고 테스트")
+class PartitionedStockTest {
+
+    @Test
+    @DisplayName("마지막 재고는 느린 경로가 다른 파티션에서 모아 정확히 판매")
+    void 마지막_재고_정확히_판매() {
+        try (PartitionedStock stock = new PartitionedStock(10L, 4, 0, TimeUnit.MILLISECONDS)) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(StockResult.SUCCESS, stock.tryDecrement(1), (i + 1) + "번째 감소");
+            }
+            assertEquals(StockResult.INSUFFICIENT_STOCK, stock.tryDecrement(1));
+            assertEquals(0L, stock.getQuantity());
+            assertTrue(stock.getSlowPathCount() > 0, "자기 파티션 할당량을 넘는 감소는 느린 경로를 거쳐야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("재고 부족으로 실패한 느린 경로는 모은 할당량을 되돌림")
+    void 재고_부족_시_할당량_유지() {
+        try (PartitionedStock stock = new PartitionedStock(10L, 4, 0, TimeUnit.MILLISECONDS)) {
+            assertEquals(StockResult.INSUFFICIENT_STOCK, stock.tryDecrement(11));
+            assertEquals(10L, stock.getQuantity());
+            assertEquals(StockResult.SUCCESS, stock.tryDecrement(10));
+            assertEquals(0L, stock.getQuantity());
+        }
+    }
+
+    @Test
+    @DisplayName("재분배는 부족한 파티션에 할당량을 이동하고 합계는 유지")
+    void 재분배() {
+        try (PartitionedStock stock = new PartitionedStock(400L, 4, 0, TimeUnit.MILLISECONDS)) {
+            int home = (int) (Thread.currentThread().getId() % 4);
+            for (int i = 0; i < 90; i++) {
+                stock.decrement(1);
+            }
+            assertEquals(10L, stock.getPartitionQuantity(home));
+
+            stock.rebalance();
+
+            long fair = 310L / 4;
+            assertTrue(stock.getPartitionQuantity(home) >= fair / 2,
+                "부족한 파티션은 공평 몫의 절반 이상으로 채워져야 함: " + stock.getPartitionQuantity(home));
+            assertTrue(stock.getRebalancedUnits() > 0);
+            assertEquals(310L, stock.getQuantity(), "재분배는 합계를 바꾸지 않아야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("[재분배 ✅] 100개 스레드가 재고보다 많이 감소 시도 → 초과 판매 없음")
+    void 재분배_중_초과_판매_없음() throws InterruptedException {
+        long initialStock = 10_000L;
+        int threadCount = 100;
+        AtomicLong successCount = new AtomicLong();
+
+        try (PartitionedStock stock = new PartitionedStock(initialStock, 8, 100, TimeUnit.MICROSECONDS)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < 200; j++) {
+                            if (stock.tryDecrement(1) == StockResult.SUCCESS) {
+                                successCount.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            startLatch.countDown();
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+
+            assertEquals(initialStock, successCount.get(), "시도 횟수가 재고보다 많으면 정확히 재고만큼 성공해야 함");
+            assertEquals(0L, stock.getQuantity());
+        }
+    }
+}
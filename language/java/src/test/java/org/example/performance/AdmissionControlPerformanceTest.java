@@ -0,0 +1,197 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.admission.AdmissionControlledProduct;
+import org.example.admission.AdmissionResult;
+import org.example.admission.AimdLimit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수락 제어(Admission Control) 성능 비교 테스트 - 극한 경합 시나리오
+ *
+ * 비교 대상:
+ * 1. 제어 없음: 모든 스레드가 락 대기열에 줄을 섬
+ * 2. AIMD 수락 제어: 한도를 넘는 호출은 즉시 OVERLOADED로 거절
+ *
+ * 부하(스레드 수)를 50 → 200 → 500으로 늘리며
+ * 처리량(goodput, 성공한 감소/초)과 성공 요청의 p99 지연을 측정합니다.
+ * 수락 제어가 있으면 용량을 넘는 부하에서도 p99가 평탄하게 유지되어야 합니다.
+ *
+ * 검증 (AIMD, 가장 낮은 부하 대비 가장 높은 부하):
+ * - p99: P99_GROWTH_LIMIT배 이하 (스케줄링 잡음을 고려해 P99_FLOOR_NANOS 이하의 p99는 통과)
+ * - goodput: GOODPUT_FLOOR_RATIO 이상 유지
+ */
+@DisplayName("[Performance] 수락 제어 성능 비교")
+class AdmissionControlPerformanceTest {
+
+    private static final int[] OFFERED_LOAD = {50, 200, 500};
+    private static final int OPERATIONS_PER_THREAD = 1000;
+    private static final double P99_GROWTH_LIMIT = 4.0;
+    private static final long P99_FLOOR_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double GOODPUT_FLOOR_RATIO = 0.5;
+
+    static class LoadResult {
+        final long elapsedTimeNanos;
+        final long successCount;
+        final long overloadedCount;
+        final long p99Nanos;
+        final long finalStock;
+
+        LoadResult(long elapsedTimeNanos, long successCount, long overloadedCount, long p99Nanos, long finalStock) {
+            this.elapsedTimeNanos = elapsedTimeNanos;
+            this.successCount = successCount;
+            this.overloadedCount = overloadedCount;
+            this.p99Nanos = p99Nanos;
+            this.finalStock = finalStock;
+        }
+
+        long goodputPerSecond() {
+            return successCount * 1_000_000_000L / Math.max(1, elapsedTimeNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("극한 경합 - synchronized: 부하 증가 시 goodput / p99")
+    void synchronized_수락_제어_비교() throws InterruptedException {
+        compare("synchronized", stock -> new org.example.synchronization.Product(1L, "Item", stock, 1000L));
+    }
+
+    @Test
+    @DisplayName("극한 경합 - ReentrantLock: 부하 증가 시 goodput / p99")
+    void reentrantLock_수락_제어_비교() throws InterruptedException {
+        compare("ReentrantLock", stock -> new org.example.explicitlock.Product(1L, "Item", stock, 1000L));
+    }
+
+    interface ProductFactory {
+        Stock create(long initialStock);
+    }
+
+    private void compare(String strategy, ProductFactory factory) throws InterruptedException {
+        System.out.printf("%n========== 수락 제어 비교 [%s] ==========%n", strategy);
+        System.out.println("┌─────────┬──────────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ threads │ 방식          │ goodput(/s)  │ p99(μs)      │ 거절          │");
+        System.out.println("├─────────┼──────────────┼──────────────┼──────────────┼──────────────┤");
+
+        LoadResult[] admittedByLoad = new LoadResult[OFFERED_LOAD.length];
+        for (int load = 0; load < OFFERED_LOAD.length; load++) {
+            int threads = OFFERED_LOAD[load];
+            long initialStock = (long) threads * OPERATIONS_PER_THREAD;
+
+            Stock plainProduct = factory.create(initialStock);
+            LoadResult plain = run(threads, plainProduct::decrement, plainProduct);
+
+            Stock delegate = factory.create(initialStock);
+            AdmissionControlledProduct controlled = new AdmissionControlledProduct(delegate,
+                new AimdLimit(8, 1, 64, TimeUnit.MICROSECONDS.toNanos(200), 0.9));
+            LoadResult admitted = run(threads,
+                quantity -> controlled.decrement(quantity) == AdmissionResult.SUCCESS, delegate);
+
+            admittedByLoad[load] = admitted;
+            printRow(threads, "제어 없음", plain);
+            printRow(threads, "AIMD", admitted);
+
+            // ✅ 거절된 호출은 재고를 변경하지 않아야 함
+            assertEquals(initialStock - plain.successCount, plain.finalStock, strategy + " 제어 없음: 최종 재고 불일치");
+            assertEquals(initialStock - admitted.successCount, admitted.finalStock, strategy + " AIMD: 최종 재고 불일치");
+            assertEquals(initialStock, plain.successCount, strategy + " 제어 없음: 모든 감소가 성공해야 함");
+            assertEquals(initialStock, admitted.successCount + admitted.overloadedCount,
+                strategy + " AIMD: 성공 + 거절 횟수가 총 시도 횟수와 불일치");
+        }
+        System.out.println("└─────────┴──────────────┴──────────────┴──────────────┴──────────────┘");
+
+        // ✅ 수락 제어가 있으면 부하가 늘어도 성공 요청의 p99와 goodput이 유지되어야 함
+        LoadResult lowest = admittedByLoad[0];
+        LoadResult highest = admittedByLoad[admittedByLoad.length - 1];
+        long p99Bound = Math.max((long) (lowest.p99Nanos * P99_GROWTH_LIMIT), P99_FLOOR_NANOS);
+        assertTrue(highest.p99Nanos <= p99Bound, String.format(
+            "%s AIMD: %d threads p99 %,dns가 %d threads p99 %,dns 대비 상한 %,dns 초과",
+            strategy, OFFERED_LOAD[OFFERED_LOAD.length - 1], highest.p99Nanos, OFFERED_LOAD[0], lowest.p99Nanos, p99Bound));
+        assertTrue(highest.goodputPerSecond() >= lowest.goodputPerSecond() * GOODPUT_FLOOR_RATIO, String.format(
+            "%s AIMD: %d threads goodput %,d/s가 %d threads goodput %,d/s의 %.0f%% 미만",
+            strategy, OFFERED_LOAD[OFFERED_LOAD.length - 1], highest.goodputPerSecond(), OFFERED_LOAD[0],
+            lowest.goodputPerSecond(), GOODPUT_FLOOR_RATIO * 100));
+    }
+
+    interface Decrement {
+        boolean apply(long quantity);
+    }
+
+    /**
+     * 각 스레드가 OPERATIONS_PER_THREAD번 감소를 시도하며 성공한 요청의 지연만 기록
+     */
+    private LoadResult run(int threads, Decrement decrement, Stock target) throws InterruptedException {
+        AtomicLong successCount = new AtomicLong();
+        AtomicLong overloadedCount = new AtomicLong();
+        long[][] latencies = new long[threads][OPERATIONS_PER_THREAD];
+        int[] recorded = new int[threads];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            final int threadIndex = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    long[] samples = latencies[threadIndex];
+                    int count = 0;
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        long start = System.nanoTime();
+                        if (decrement.apply(1)) {
+                            samples[count++] = System.nanoTime() - start;
+                            successCount.incrementAndGet();
+                        } else {
+                            overloadedCount.incrementAndGet();
+                        }
+                    }
+                    recorded[threadIndex] = count;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        return new LoadResult(elapsedTime, successCount.get(), overloadedCount.get(),
+            percentile(latencies, recorded, 0.99), target.getQuantity());
+    }
+
+    private long percentile(long[][] latencies, int[] recorded, double percentile) {
+        int total = Arrays.stream(recorded).sum();
+        if (total == 0) {
+            return 0;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            System.arraycopy(latencies[i], 0, merged, offset, recorded[i]);
+            offset += recorded[i];
+        }
+        Arrays.sort(merged);
+        return merged[(int) Math.min(total - 1, Math.ceil(total * percentile) - 1)];
+    }
+
+    private void printRow(int threads, String mode, LoadResult result) {
+        System.out.printf("│ %7d │ %-12s │ %,12d │ %,12d │ %,12d │%n",
+            threads, mode, result.goodputPerSecond(), result.p99Nanos / 1_000, result.overloadedCount);
+    }
+}
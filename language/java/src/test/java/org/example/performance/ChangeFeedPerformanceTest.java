@@ -0,0 +1,165 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.feed.StockChange;
+import org.example.feed.StockChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 변경 스트림 오버헤드 측정 - decrement 처리량
+ *
+ * 비교 대상:
+ * 1. 스트림 없음
+ * 2. 스트림 + 빠른 구독자 (요청량 무제한)
+ * 3. 스트림 + 느린 구독자 (1건씩 요청, 1ms 처리) → 변경이 합쳐지며 쓰기 스레드는 기다리지 않아야 함
+ */
+@DisplayName("[Performance] 재고 변경 스트림 오버헤드")
+class ChangeFeedPerformanceTest {
+
+    private static final int THREADS = 50;
+    private static final int OPERATIONS_PER_THREAD = 10_000;
+
+    @Test
+    @DisplayName("AtomicLong - 스트림 유무에 따른 decrement 처리량")
+    void atomic_스트림_오버헤드() throws InterruptedException {
+        compare("AtomicLong", stock -> new org.example.atomic.Product(1L, "Item", stock, 1000L));
+    }
+
+    @Test
+    @DisplayName("synchronized - 스트림 유무에 따른 decrement 처리량")
+    void synchronized_스트림_오버헤드() throws InterruptedException {
+        compare("synchronized", stock -> new org.example.synchronization.Product(1L, "Item", stock, 1000L));
+    }
+
+    private void compare(String strategy, LongFunction<Stock> factory) throws InterruptedException {
+        long initialStock = (long) THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("%n========== 재고 변경 스트림 오버헤드 [%s, %d threads] ==========%n", strategy, THREADS);
+
+        long plainNanos = runDecrements(factory.apply(initialStock));
+
+        Stock fastTarget = factory.apply(initialStock);
+        LastValueSubscriber fast = new LastValueSubscriber(Long.MAX_VALUE, 0);
+        long fastNanos;
+        try (StockChangeFeed feed = new StockChangeFeed(1)) {
+            feed.register(1L, fastTarget);
+            feed.subscribe(fast);
+            fastNanos = runDecrements(fastTarget);
+            assertTrue(fast.awaitQuantity(fastTarget.getQuantity(), 5, TimeUnit.SECONDS),
+                "구독자는 결국 최종 재고를 관측해야 함 (마지막 관측: " + fast.lastQuantity + ")");
+        }
+
+        Stock slowTarget = factory.apply(initialStock);
+        LastValueSubscriber slow = new LastValueSubscriber(1, 1);
+        long slowNanos;
+        try (StockChangeFeed feed = new StockChangeFeed(1)) {
+            feed.register(1L, slowTarget);
+            feed.subscribe(slow);
+            slowNanos = runDecrements(slowTarget);
+        }
+
+        long totalOperations = initialStock;
+        System.out.printf("[스트림 없음]      %,12d ops/s%n", totalOperations * 1_000_000_000L / plainNanos);
+        System.out.printf("[빠른 구독자]      %,12d ops/s | 전달 이벤트: %,d (변경 %,d건 합쳐짐)%n",
+            totalOperations * 1_000_000_000L / fastNanos, fast.received.get(), totalOperations);
+        System.out.printf("[느린 구독자]      %,12d ops/s | 전달 이벤트: %,d%n",
+            totalOperations * 1_000_000_000L / slowNanos, slow.received.get());
+
+        assertTrue(fast.received.get() <= totalOperations, "전달 이벤트 수는 변경 횟수를 넘을 수 없음");
+        assertEquals(0L, slowTarget.getQuantity(), "느린 구독자가 있어도 모든 감소가 완료되어야 함");
+    }
+
+    private long runDecrements(Stock product) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        product.decrement(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return elapsedTime;
+    }
+
+    /**
+     * 마지막으로 관측한 수량을 기록하는 구독자 (processingMillis > 0 이면 느린 소비자)
+     */
+    private static class LastValueSubscriber implements Flow.Subscriber<StockChange> {
+        private final long batch;
+        private final long processingMillis;
+        private final AtomicLong received = new AtomicLong();
+        private volatile long lastQuantity = -1;
+        private Flow.Subscription subscription;
+
+        LastValueSubscriber(long batch, long processingMillis) {
+            this.batch = batch;
+            this.processingMillis = processingMillis;
+        }
+
+        boolean awaitQuantity(long expected, long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (lastQuantity != expected && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            return lastQuantity == expected;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(StockChange item) {
+            received.incrementAndGet();
+            lastQuantity = item.getQuantity();
+            if (processingMillis > 0) {
+                try {
+                    Thread.sleep(processingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (batch != Long.MAX_VALUE) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마감 기반 timed 연산 성능 비교 - 극한 경합 (500 threads)
+ *
+ * 비교 대상:
+ * 1. 무제한 대기: tryDecrement(qty) - 마감을 넘겨도 락을 끝까지 기다림
+ * 2. 마감 대기: tryDecrement(qty, deadline) - 마감이 지나면 TIMED_OUT으로 포기
+ *
+ * 임계 영역에 일정 시간 바쁜 대기를 넣어 convoy를 만들고,
+ * 모든 호출의 p99.9 지연과 goodput(마감 안에 성공한 감소/초)을 측정합니다.
+ */
+@DisplayName("[Performance] 마감 기반 timed 연산 (500 threads)")
+class DeadlinePerformanceTest {
+
+    private static final int THREADS = 500;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final long DEADLINE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long CRITICAL_SECTION_NANOS = TimeUnit.MICROSECONDS.toNanos(2);
+
+    static class LoadResult {
+        final long elapsedTimeNanos;
+        final long onTimeCount;
+        final long timedOutCount;
+        final long contendedCount;
+        final long p999Nanos;
+        final long successCount;
+        final long finalStock;
+
+        LoadResult(long elapsedTimeNanos, long onTimeCount, long timedOutCount, long contendedCount, long p999Nanos,
+                   long successCount, long finalStock) {
+            this.elapsedTimeNanos = elapsedTimeNanos;
+            this.onTimeCount = onTimeCount;
+            this.timedOutCount = timedOutCount;
+            this.contendedCount = contendedCount;
+            this.p999Nanos = p999Nanos;
+            this.successCount = successCount;
+            this.finalStock = finalStock;
+        }
+
+        long goodputPerSecond() {
+            return onTimeCount * 1_000_000_000L / Math.max(1, elapsedTimeNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("전략별 무제한 대기 vs 마감 대기: p99.9 / goodput")
+    void 마감_대기_비교() throws InterruptedException {
+        long initialStock = (long) THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("%n========== 마감 기반 timed 연산 (%d threads, 마감 %dμs) ==========%n",
+            THREADS, TimeUnit.NANOSECONDS.toMicros(DEADLINE_NANOS));
+        System.out.println("┌─────────────────┬──────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 동기화 방식        │ 방식      │ goodput(/s)  │ p99.9(μs)    │ 시간 초과       │");
+        System.out.println("├─────────────────┼──────────┼──────────────┼──────────────┼──────────────┤");
+
+        for (StockStrategy strategy : new StockStrategy[]{StockStrategy.SYNCHRONIZED, StockStrategy.EXPLICIT_LOCK, StockStrategy.ATOMIC}) {
+            Stock unboundedProduct = create(strategy, initialStock);
+            LoadResult unbounded = run(unboundedProduct, false);
+
+            Stock deadlineProduct = create(strategy, initialStock);
+            LoadResult deadline = run(deadlineProduct, true);
+
+            printRow(strategy, "무제한", unbounded);
+            printRow(strategy, "마감", deadline);
+
+            // ✅ 시간 초과된 호출은 재고를 변경하지 않아야 함
+            assertEquals(initialStock - unbounded.successCount, unbounded.finalStock, strategy + " 무제한: 최종 재고 불일치");
+            assertEquals(initialStock - deadline.successCount, deadline.finalStock, strategy + " 마감: 최종 재고 불일치");
+            // atomic의 tryDecrement(1)은 재시도 100회를 넘기면 CONTENDED를 반환하므로 따로 셈
+            assertEquals(initialStock, unbounded.successCount + unbounded.contendedCount,
+                strategy + " 무제한: 성공 + 경합 실패 횟수가 총 시도 횟수와 불일치");
+            assertEquals(initialStock, deadline.successCount + deadline.timedOutCount + deadline.contendedCount,
+                strategy + " 마감: 성공 + 시간 초과 + 경합 실패 횟수가 총 시도 횟수와 불일치");
+        }
+        System.out.println("└─────────────────┴──────────┴──────────────┴──────────────┴──────────────┘");
+    }
+
+    /**
+     * 리스너에서 바쁜 대기를 하여 락을 쥔 시간을 늘림 (atomic은 락이 없으므로 CAS 사이 간격만 늘어남)
+     */
+    private Stock create(StockStrategy strategy, long initialStock) {
+        Stock product = strategy.create(1L, "Item", initialStock, 1000L);
+        product.addStockListener((before, after) -> {
+            long until = System.nanoTime() + CRITICAL_SECTION_NANOS;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        });
+        return product;
+    }
+
+    /**
+     * 각 스레드가 OPERATIONS_PER_THREAD번 감소를 시도하며 모든 호출의 지연을 기록
+     */
+    private LoadResult run(Stock product, boolean withDeadline) throws InterruptedException {
+        AtomicLong onTimeCount = new AtomicLong();
+        AtomicLong successCount = new AtomicLong();
+        AtomicLong timedOutCount = new AtomicLong();
+        AtomicLong contendedCount = new AtomicLong();
+        long[][] latencies = new long[THREADS][OPERATIONS_PER_THREAD];
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            final int threadIndex = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    long[] samples = latencies[threadIndex];
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        long start = System.nanoTime();
+                        int result = withDeadline
+                            ? product.tryDecrement(1, DEADLINE_NANOS, TimeUnit.NANOSECONDS)
+                            : product.tryDecrement(1);
+                        long latency = System.nanoTime() - start;
+                        samples[j] = latency;
+                        if (result == StockResult.SUCCESS) {
+                            successCount.incrementAndGet();
+                            if (latency <= DEADLINE_NANOS) {
+                                onTimeCount.incrementAndGet();
+                            }
+                        } else if (result == StockResult.TIMED_OUT) {
+                            timedOutCount.incrementAndGet();
+                        } else if (result == StockResult.CONTENDED) {
+                            contendedCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        return new LoadResult(elapsedTime, onTimeCount.get(), timedOutCount.get(), contendedCount.get(),
+            percentile(latencies, 0.999), successCount.get(), product.getQuantity());
+    }
+
+    private long percentile(long[][] latencies, double percentile) {
+        long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(merged);
+        return merged[(int) Math.min(merged.length - 1, Math.ceil(merged.length * percentile) - 1)];
+    }
+
+    private void printRow(StockStrategy strategy, String mode, LoadResult result) {
+        System.out.printf("│ %-15s │ %-8s │ %,12d │ %,12d │ %,12d │%n",
+            strategy, mode, result.goodputPerSecond(), result.p999Nanos / 1_000, result.timedOutCount);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockStrategy;
+import org.example.atomic.AlwaysContendedProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tryDecrement 결과 코드 API의 연산당 할당량 측정용 JMH 벤치마크
+ *
+ * - success: 재고가 충분한 성공 경로
+ * - insufficientStock: 재고 0인 실패 경로
+ * - contended: 4개 스레드가 같은 상품을 감소 (CAS 재시도는 일어나지만 100회를 모두 소진하지는 않음)
+ * - forcedContended: CAS가 항상 실패하는 atomic Product로 재시도 소진 후 CONTENDED 반환 경로를 강제
+ *
+ * DecrementAllocationTest가 GC 프로파일러와 함께 실행하여 0 bytes/op를 검증합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecrementAllocationBenchmark {
+
+    @Param
+    public StockStrategy strategy;
+
+    private Stock inStock;
+    private Stock soldOut;
+
+    @Setup
+    public void setUp() {
+        inStock = strategy.create(1L, "Item", Long.MAX_VALUE / 2, 1000L);
+        soldOut = strategy.create(1L, "Item", 0L, 1000L);
+    }
+
+    @Benchmark
+    public int success() {
+        return inStock.tryDecrement(1);
+    }
+
+    @Benchmark
+    public int insufficientStock() {
+        return soldOut.tryDecrement(1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int contended() {
+        return inStock.tryDecrement(1);
+    }
+
+    /**
+     * 전략 파라미터와 무관하므로 별도 벤치마크 클래스로 분리 (전략마다 반복 실행하지 않음)
+     */
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 2, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+    @Fork(1)
+    @State(Scope.Benchmark)
+    public static class ForcedContention {
+        private Stock alwaysContended;
+
+        @Setup
+        public void setUp() {
+            alwaysContended = new AlwaysContendedProduct(1L, "Item", Long.MAX_VALUE / 2, 1000L);
+        }
+
+        @Benchmark
+        public int forcedContended() {
+            return alwaysContended.tryDecrement(1);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.performance;
+
+import org.example.StockResult;
+import org.example.atomic.AlwaysContendedProduct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tryDecrement 할당량 검증 - JMH GC 프로파일러
+ *
+ * 모든 전략의 성공 / 재고 부족 / 경합 경로와, 재시도를 소진한 CONTENDED 경로(CAS가 항상 실패하는 atomic Product)에서
+ * 연산당 할당량(gc.alloc.rate.norm)이 0이어야 합니다.
+ * JMH 측정 오차로 0.0x bytes/op 수준의 값이 나올 수 있어 1 byte/op 미만을 0으로 간주합니다.
+ * JMH를 별도 프로세스로 실행하므로 기본 test에서는 제외됩니다.
+ *
+ * 실행: ./gradlew allocationBenchmark
+ */
+@Tag("allocation")
+@DisplayName("[Performance] tryDecrement 할당량 (JMH -prof gc)")
+class DecrementAllocationTest {
+
+    private static final double MAX_BYTES_PER_OPERATION = 1.0;
+
+    @Test
+    @DisplayName("모든 전략의 tryDecrement는 연산당 0 bytes 할당")
+    void tryDecrement_할당_없음() throws RunnerException {
+        assertEquals(StockResult.CONTENDED, new AlwaysContendedProduct(1L, "Item", 100L, 1000L).tryDecrement(1),
+            "forcedContended 벤치마크는 CONTENDED 경로를 측정해야 함");
+        Options options = new OptionsBuilder()
+            .include(DecrementAllocationBenchmark.class.getName())
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertFalse(results.isEmpty(), "JMH 벤치마크 결과가 있어야 함");
+        assertTrue(results.stream().anyMatch(result -> result.getParams().getBenchmark().endsWith("forcedContended")),
+            "CONTENDED 강제 벤치마크 결과가 있어야 함");
+
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            // forcedContended는 strategy 파라미터가 없음 (atomic Product 고정)
+            String strategy = Objects.requireNonNullElse(result.getParams().getParam("strategy"), "ATOMIC");
+            double bytesPerOperation = allocationRateNorm(result.getSecondaryResults());
+
+            System.out.printf("[%s] %s: %.3f bytes/op%n", strategy, benchmark, bytesPerOperation);
+            assertTrue(bytesPerOperation < MAX_BYTES_PER_OPERATION,
+                String.format("[%s] %s: 연산당 할당량이 0이어야 함 (실제: %.3f bytes/op)",
+                    strategy, benchmark, bytesPerOperation));
+        }
+    }
+
+    private double allocationRateNorm(Map<String, Result> secondaryResults) {
+        // JMH 버전에 따라 "·gc.alloc.rate.norm" 형태의 키를 사용
+        for (Map.Entry<String, Result> entry : secondaryResults.entrySet()) {
+            if (entry.getKey().endsWith("gc.alloc.rate.norm")) {
+                return entry.getValue().getScore();
+            }
+        }
+        return fail("gc.alloc.rate.norm 결과가 없음: " + secondaryResults.keySet());
+    }
+}
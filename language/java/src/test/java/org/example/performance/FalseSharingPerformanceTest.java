@@ -0,0 +1,101 @@
+package org.example.performance;
+
+import org.example.StockResult;
+import org.example.counter.PaddedCounterArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * False Sharing 성능 비교 - 인접 상품 동시 갱신
+ *
+ * 스레드마다 서로 다른 상품(인접 인덱스)만 감소/증가하므로 논리적 경합은 없습니다.
+ * stride가 작으면 인접 상품이 같은 캐시 라인에 놓여 CAS마다 라인이 코어 사이를 오가고,
+ * stride가 캐시 라인(8) 이상이면 각 상품이 별도 라인을 사용합니다.
+ *
+ * 코어 수가 적은 환경에서는 스레드가 동시에 실행되지 않아 차이가 거의 나타나지 않습니다.
+ */
+@DisplayName("[Performance] False Sharing - 인접 상품 갱신")
+class FalseSharingPerformanceTest {
+
+    private static final int[] STRIDES = {1, 2, 4, 8, 16};
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+    private static final int WARMUP_ROUNDS = 2;
+
+    @Test
+    @DisplayName("stride별 인접 상품 갱신 처리량 / 메모리")
+    void 패딩_비교() throws InterruptedException {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%n========== False Sharing - 인접 상품 %d개 동시 갱신 ==========%n", threads);
+        System.out.println("┌────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ stride │ ns/op        │ 상대 속도       │ bytes/상품     │");
+        System.out.println("├────────┼──────────────┼──────────────┼──────────────┤");
+
+        double denseNanosPerOp = 0;
+        for (int stride : STRIDES) {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                run(new PaddedCounterArray(threads, stride), threads);
+            }
+            PaddedCounterArray counters = new PaddedCounterArray(threads, stride);
+            long elapsed = run(counters, threads);
+            double nanosPerOp = (double) elapsed / OPERATIONS_PER_THREAD;
+            if (stride == PaddedCounterArray.DENSE) {
+                denseNanosPerOp = nanosPerOp;
+            }
+            System.out.printf("│ %6d │ %,12.2f │ %11.2fx │ %,12d │%n",
+                stride, nanosPerOp, denseNanosPerOp / nanosPerOp, stride * Long.BYTES);
+
+            // ✅ 각 스레드의 증감은 자기 상품에만 반영되어야 함
+            for (int i = 0; i < threads; i++) {
+                assertEquals(OPERATIONS_PER_THREAD / 2, counters.get(i), "stride " + stride + ": 상품 " + i + " 재고 불일치");
+            }
+        }
+        System.out.println("└────────┴──────────────┴──────────────┴──────────────┘");
+    }
+
+    /**
+     * 스레드 i는 상품 i만 갱신: 감소 2회마다 증가 1회 (재고가 바닥나지 않도록)
+     */
+    private long run(PaddedCounterArray counters, int threads) throws InterruptedException {
+        for (int i = 0; i < threads; i++) {
+            counters.set(i, OPERATIONS_PER_THREAD);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        if ((j & 1) == 0) {
+                            counters.tryDecrement(index, 2);
+                        } else {
+                            counters.addAndGet(index, 1);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return elapsedTime;
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.example.idempotency.IdempotentStock;
+import org.example.idempotency.RequestDedupCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멱등 decrement 추가 비용 측정 - 극한 경합 (500 threads)
+ *
+ * 각 스레드는 고유한 요청 ID로 감소하고, 10번에 한 번은 직전 요청 ID로 재시도합니다.
+ * 재시도는 다시 감소하지 않아야 하므로 최종 재고 = 초기 재고 - 고유 요청 성공 수 입니다.
+ */
+@DisplayName("[Performance] 멱등 decrement 추가 비용 (500 threads)")
+class IdempotencyPerformanceTest {
+
+    private static final int THREADS = 500;
+    private static final int OPERATIONS_PER_THREAD = 1_000;
+    private static final int RETRY_INTERVAL = 10;
+
+    @Test
+    @DisplayName("전략별 일반 tryDecrement vs 멱등 decrement")
+    void 멱등_연산_추가_비용() throws InterruptedException {
+        long initialStock = (long) THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("%n========== 멱등 decrement 추가 비용 (%d threads, 재시도 %d%%) ==========%n",
+            THREADS, 100 / RETRY_INTERVAL);
+        System.out.println("┌─────────────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 동기화 방식        │ 일반 (ns/op)   │ 멱등 (ns/op)   │ 추가 비용       │");
+        System.out.println("├─────────────────┼──────────────┼──────────────┼──────────────┤");
+
+        for (StockStrategy strategy : new StockStrategy[]{StockStrategy.SYNCHRONIZED, StockStrategy.EXPLICIT_LOCK, StockStrategy.ATOMIC}) {
+            Stock plain = strategy.create(1L, "Item", initialStock, 1000L);
+            long plainNanos = run((threadIndex, j) -> plain.tryDecrement(1) == StockResult.SUCCESS);
+
+            Stock delegate = strategy.create(1L, "Item", initialStock, 1000L);
+            IdempotentStock idempotent = new IdempotentStock(delegate,
+                new RequestDedupCache(THREADS * OPERATIONS_PER_THREAD, 1, TimeUnit.MINUTES));
+            // 요청 ID별 성공 여부: 원래 요청이 CONTENDED로 해제된 뒤 재시도가 성공해도 한 번만 셈
+            AtomicIntegerArray succeeded = new AtomicIntegerArray(THREADS * OPERATIONS_PER_THREAD);
+            AtomicLong uniqueSuccess = new AtomicLong();
+            long idempotentNanos = run((threadIndex, j) -> {
+                int request = j > 0 && j % RETRY_INTERVAL == 0 ? j - 1 : j;  // 재시도는 직전 요청 ID 사용
+                long requestId = ((long) threadIndex << 32) | request;
+                boolean success = idempotent.decrement(requestId, 1) == StockResult.SUCCESS;
+                if (success && succeeded.compareAndSet(threadIndex * OPERATIONS_PER_THREAD + request, 0, 1)) {
+                    uniqueSuccess.incrementAndGet();
+                }
+                return success;
+            });
+
+            long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+            double plainPerOp = (double) plainNanos / operations;
+            double idempotentPerOp = (double) idempotentNanos / operations;
+            System.out.printf("│ %-15s │ %,12.1f │ %,12.1f │ %+11.1f%% │%n",
+                strategy, plainPerOp, idempotentPerOp, (idempotentPerOp / plainPerOp - 1.0) * 100);
+
+            assertEquals(initialStock - uniqueSuccess.get(), delegate.getQuantity(),
+                strategy + ": 재시도로 인한 중복 감소가 없어야 함");
+        }
+        System.out.println("└─────────────────┴──────────────┴──────────────┴──────────────┘");
+    }
+
+    interface Operation {
+        boolean apply(int threadIndex, int j);
+    }
+
+    private long run(Operation operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            final int threadIndex = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        operation.apply(threadIndex, j);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return elapsedTime;
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.performance;
+
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.example.server.InventoryClient;
+import org.example.server.InventoryServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NIO 재고 서버 처리량 / 지연 측정 - 수천 개 연결
+ *
+ * 연결 수(기본 2,000, -Dserver.connections)만큼 루프백 연결을 열고,
+ * 드라이버 스레드가 연결마다 파이프라인 깊이만큼 decrement를 보낸 뒤 응답을 모아 읽습니다.
+ * 지연은 배치 하나의 왕복 시간(전송 → 마지막 응답 수신)입니다.
+ *
+ * 비교: 파이프라인 깊이 1 (요청마다 왕복) vs 32 (배치 전송 / 배치 응답)
+ *
+ * 소켓을 연결 수의 2배만큼 열므로 기본 test에서 제외 (실행: ./gradlew serverBenchmark)
+ */
+@Tag("server")
+@DisplayName("[Performance] NIO 재고 서버 처리량 / 지연")
+class InventoryServerPerformanceTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("server.connections", 2_000);
+    private static final int DRIVER_THREADS = Math.min(CONNECTIONS, 32);
+    private static final int WORKER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int PRODUCTS = 1_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    @DisplayName("AtomicLong 전략 - 파이프라인 깊이별 처리량 / p99")
+    void atomic_서버_성능() throws Exception {
+        measure(StockStrategy.ATOMIC);
+    }
+
+    @Test
+    @DisplayName("synchronized 전략 - 파이프라인 깊이별 처리량 / p99")
+    void synchronized_서버_성능() throws Exception {
+        measure(StockStrategy.SYNCHRONIZED);
+    }
+
+    private void measure(StockStrategy strategy) throws Exception {
+        System.out.printf("%n========== NIO 재고 서버 [%s, %,d connections, %d workers] ==========%n",
+            strategy, CONNECTIONS, WORKER_THREADS);
+
+        try (InventoryServer server = new InventoryServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), WORKER_THREADS,
+                InventoryServer.catalog(strategy, PRODUCTS, Long.MAX_VALUE / 2))) {
+
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            List<InventoryClient> clients = new ArrayList<>(CONNECTIONS);
+            try {
+                for (int i = 0; i < CONNECTIONS; i++) {
+                    clients.add(new InventoryClient(address));
+                }
+                for (int depth : new int[]{1, 32}) {
+                    run(clients, depth);
+                }
+            } finally {
+                for (InventoryClient client : clients) {
+                    client.close();
+                }
+            }
+        }
+    }
+
+    private void run(List<InventoryClient> clients, int depth) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(DRIVER_THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(DRIVER_THREADS);
+        AtomicLong successCount = new AtomicLong();
+        AtomicLong failCount = new AtomicLong();
+        long[][] latencies = new long[DRIVER_THREADS][];
+
+        for (int d = 0; d < DRIVER_THREADS; d++) {
+            final int driver = d;
+            List<InventoryClient> owned = new ArrayList<>();
+            for (int i = driver; i < clients.size(); i += DRIVER_THREADS) {
+                owned.add(clients.get(i));
+            }
+            latencies[driver] = new long[owned.size() * ROUNDS];
+
+            executor.submit(() -> {
+                int recorded = 0;
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (InventoryClient client : owned) {
+                            long start = System.nanoTime();
+                            for (int i = 0; i < depth; i++) {
+                                client.sendDecrement(random.nextInt(PRODUCTS), 1);
+                            }
+                            client.flush();
+                            for (int i = 0; i < depth; i++) {
+                                if (client.receive() == StockResult.SUCCESS) {
+                                    successCount.incrementAndGet();
+                                } else {
+                                    failCount.incrementAndGet();
+                                }
+                            }
+                            latencies[driver][recorded++] = System.nanoTime() - start;
+                        }
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                    e.printStackTrace();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long totalRequests = (long) clients.size() * ROUNDS * depth;
+        System.out.printf("[depth=%2d] %,12d req/s | batch RTT p50: %,8d μs, p99: %,8d μs, p99.9: %,8d μs | 성공: %,d, 실패: %,d%n",
+            depth, totalRequests * 1_000_000_000L / elapsedTime,
+            percentile(merged, 0.50) / 1_000, percentile(merged, 0.99) / 1_000, percentile(merged, 0.999) / 1_000,
+            successCount.get(), failCount.get());
+
+        assertEquals(0L, failCount.get(), "재고가 충분하므로 모든 요청이 성공해야 함");
+        assertEquals(totalRequests, successCount.get());
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(sorted.length * percentile) - 1)];
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockStrategy;
+import org.example.catalog.Catalog;
+import org.example.catalog.InMemoryMetadataBackend;
+import org.example.catalog.MetadataCache;
+import org.example.catalog.MetadataLoader;
+import org.example.catalog.ProductMetadata;
+import org.example.counter.PaddedCounterArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 정보 캐시 성능 - Zipf 분포 조회
+ *
+ * 1. 적중률: 캐시 크기별 W-TinyLFU vs LRU (같은 조회 순서)
+ * 2. 메모리: 전체 카탈로그를 Product 객체로 상주 vs 조밀한 재고 카운터 + 크기 제한 캐시
+ * 3. 조회 지연: 원본 저장소 지연이 있을 때 동시 조회의 p50 / p99
+ */
+@DisplayName("[Performance] 상품 정보 캐시 (Zipf)")
+class MetadataCachePerformanceTest {
+
+    private static final int PRODUCTS = 200_000;
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final int LOOKUPS = 1_000_000;
+    private static final double[] CACHE_RATIOS = {0.001, 0.01, 0.05};
+    private static final int THREADS = 8;
+    private static final int LOOKUPS_PER_THREAD = 50_000;
+
+    private final double[] zipfCdf = zipfCdf(PRODUCTS, ZIPF_EXPONENT);
+
+    @Test
+    @DisplayName("캐시 크기별 적중률: W-TinyLFU vs LRU")
+    void 적중률() {
+        InMemoryMetadataBackend backend = backend();
+        long[] trace = new long[LOOKUPS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < LOOKUPS; i++) {
+            trace[i] = nextZipf(random);
+        }
+
+        System.out.printf("%n========== 상품 정보 캐시 적중률 (상품 %,d개, Zipf s=%.2f, 조회 %,d회) ==========%n",
+            PRODUCTS, ZIPF_EXPONENT, LOOKUPS);
+        System.out.println("┌──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 캐시 크기       │ W-TinyLFU    │ LRU          │");
+        System.out.println("├──────────────┼──────────────┼──────────────┤");
+        for (double ratio : CACHE_RATIOS) {
+            int size = (int) (PRODUCTS * ratio);
+            MetadataCache tinyLfu = new MetadataCache(size, backend);
+            LruCache lru = new LruCache(size, backend);
+            for (long id : trace) {
+                tinyLfu.get(id);
+                lru.get(id);
+            }
+            System.out.printf("│ %,12d │ %11.2f%% │ %11.2f%% │%n",
+                size, tinyLfu.getHitRate() * 100, lru.getHitRate() * 100);
+
+            assertTrue(tinyLfu.size() <= size, "최대 크기를 넘지 않아야 함");
+            assertTrue(tinyLfu.getHitRate() >= lru.getHitRate() - 0.01,
+                "Zipf 분포에서 W-TinyLFU 적중률이 LRU보다 낮지 않아야 함 (size " + size + ")");
+        }
+        System.out.println("└──────────────┴──────────────┴──────────────┘");
+    }
+
+    @Test
+    @DisplayName("메모리: Product 객체 전체 상주 vs 조밀한 카운터 + 캐시")
+    void 메모리_사용량() {
+        int cacheSize = PRODUCTS / 100;
+
+        long before = usedHeap();
+        Stock[] products = new Stock[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            products[i] = StockStrategy.ATOMIC.create((long) i, "Item" + i, 100L, 1000L + i);
+        }
+        long productBytes = usedHeap() - before;
+        assertEquals(100L, products[PRODUCTS - 1].getQuantity());
+        products = null;
+
+        InMemoryMetadataBackend backend = backend();
+        before = usedHeap();
+        PaddedCounterArray quantities = PaddedCounterArray.dense(PRODUCTS);
+        Catalog catalog = new Catalog(quantities, new MetadataCache(cacheSize, backend));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PRODUCTS; i++) {
+            catalog.increment(i, 100L);
+        }
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            catalog.getMetadata((int) nextZipf(random));
+        }
+        long catalogBytes = usedHeap() - before;
+        assertEquals(100L, catalog.getQuantity(PRODUCTS - 1));
+
+        System.out.printf("%n========== 메모리 (상품 %,d개, 캐시 %,d개) ==========%n", PRODUCTS, cacheSize);
+        System.out.printf("Product 객체 전체 상주 : %,12d bytes (%,d bytes/상품)%n", productBytes, productBytes / PRODUCTS);
+        System.out.printf("카운터 + 캐시          : %,12d bytes (카운터 %,d bytes)%n", catalogBytes, quantities.footprintBytes());
+
+        assertTrue(catalogBytes < productBytes, "조밀한 카운터 + 캐시가 전체 상주보다 작아야 함");
+    }
+
+    @Test
+    @DisplayName("동시 조회 지연: 원본 저장소 지연 20μs")
+    void 조회_지연() throws InterruptedException {
+        InMemoryMetadataBackend backend = backend();
+        backend.setLatency(20, TimeUnit.MICROSECONDS);
+        MetadataCache cache = new MetadataCache(PRODUCTS / 100, backend);
+        long[][] latencies = new long[THREADS][LOOKUPS_PER_THREAD];
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            final int threadIndex = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long[] samples = latencies[threadIndex];
+                    for (int j = 0; j < LOOKUPS_PER_THREAD; j++) {
+                        long id = nextZipf(random);
+                        long start = System.nanoTime();
+                        ProductMetadata metadata = cache.get(id);
+                        samples[j] = System.nanoTime() - start;
+                        if (metadata.getProductId() != id) {
+                            throw new IllegalStateException("wrong metadata for " + id);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        endLatch.await();
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(merged);
+        System.out.printf("%n========== 동시 조회 지연 (%d threads, 캐시 %,d개) ==========%n", THREADS, cache.getMaximumSize());
+        System.out.printf("적중률 %.2f%%, p50 %,dns, p99 %,dns, 원본 조회 %,d회%n",
+            cache.getHitRate() * 100, merged[merged.length / 2], merged[(int) (merged.length * 0.99)], backend.getLoadCount());
+
+        assertEquals((long) THREADS * LOOKUPS_PER_THREAD, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= cache.getMaximumSize());
+    }
+
+    private InMemoryMetadataBackend backend() {
+        InMemoryMetadataBackend backend = new InMemoryMetadataBackend();
+        for (int i = 0; i < PRODUCTS; i++) {
+            backend.put(new ProductMetadata(i, "Item" + i, 1000L + i));
+        }
+        return backend;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    /**
+     * 순위 r의 상품이 1 / r^s에 비례하는 확률로 선택됨
+     */
+    private long nextZipf(ThreadLocalRandom random) {
+        int index = Arrays.binarySearch(zipfCdf, random.nextDouble());
+        return index >= 0 ? index : Math.min(PRODUCTS - 1, -index - 1);
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 비교용 LRU (LinkedHashMap 접근 순서)
+     */
+    private static class LruCache {
+        private final Map<Long, ProductMetadata> entries;
+        private final MetadataLoader loader;
+        private long hits;
+        private long misses;
+
+        LruCache(int maximumSize, MetadataLoader loader) {
+            this.loader = loader;
+            this.entries = new LinkedHashMap<>(maximumSize * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ProductMetadata> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        ProductMetadata get(long productId) {
+            ProductMetadata value = entries.get(productId);
+            if (value != null) {
+                hits++;
+                return value;
+            }
+            misses++;
+            value = loader.load(productId);
+            entries.put(productId, value);
+            return value;
+        }
+
+        double getHitRate() {
+            return (double) hits / (hits + misses);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.example.partition.PartitionedStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 파티션 수에 따른 단일 인기 상품 처리량 - 극한 경합 (500 threads)
+ *
+ * 시도 횟수가 재고보다 많아 모든 실행이 품절까지 진행되므로,
+ * 빠른 경로 / 재분배 / 느린 경로(마지막 재고)가 모두 측정에 포함됩니다.
+ * 기준선은 카운터 하나를 사용하는 atomic.Product 입니다.
+ */
+@DisplayName("[Performance] 파티션 재고 스케일링 (500 threads)")
+class PartitionScalingPerformanceTest {
+
+    private static final int THREADS = 500;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final long INITIAL_STOCK = (long) THREADS * OPERATIONS_PER_THREAD * 9 / 10;
+    private static final int[] PARTITIONS = {1, 2, 4, 8, 16, 32};
+
+    @Test
+    @DisplayName("파티션 수별 처리량 / 느린 경로 / 재분배량")
+    void 파티션_스케일링() throws InterruptedException {
+        System.out.printf("%n========== 파티션 재고 (%d threads, 재고 %,d, 시도 %,d) ==========%n",
+            THREADS, INITIAL_STOCK, (long) THREADS * OPERATIONS_PER_THREAD);
+        System.out.println("┌──────────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 파티션         │ ops/s        │ 느린 경로       │ 재분배 수량      │");
+        System.out.println("├──────────────┼──────────────┼──────────────┼──────────────┤");
+
+        Stock baseline = StockStrategy.ATOMIC.create(1L, "Item", INITIAL_STOCK, 1000L);
+        AtomicLong baselineSuccess = new AtomicLong();
+        long baselineNanos = run(baseline, baselineSuccess);
+        System.out.printf("│ %-12s │ %,12d │ %12s │ %12s │%n", "atomic", opsPerSecond(baselineNanos), "-", "-");
+        assertEquals(INITIAL_STOCK, baselineSuccess.get());
+
+        for (int partitions : PARTITIONS) {
+            try (PartitionedStock stock = new PartitionedStock(INITIAL_STOCK, partitions, 1, TimeUnit.MILLISECONDS)) {
+                AtomicLong successCount = new AtomicLong();
+                long elapsed = run(stock, successCount);
+                System.out.printf("│ %,12d │ %,12d │ %,12d │ %,12d │%n",
+                    partitions, opsPerSecond(elapsed), stock.getSlowPathCount(), stock.getRebalancedUnits());
+
+                // ✅ 재분배 중에도 초과 판매 / 판매 누락 없음
+                assertEquals(INITIAL_STOCK, successCount.get(), partitions + " partitions: 성공 횟수가 재고와 불일치");
+                assertEquals(0L, stock.getQuantity(), partitions + " partitions: 품절 후 재고는 0이어야 함");
+            }
+        }
+        System.out.println("└──────────────┴──────────────┴──────────────┴──────────────┘");
+    }
+
+    private long opsPerSecond(long elapsedNanos) {
+        return (long) THREADS * OPERATIONS_PER_THREAD * 1_000_000_000L / Math.max(1, elapsedNanos);
+    }
+
+    private long run(Stock stock, AtomicLong successCount) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    long success = 0;
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        if (stock.tryDecrement(1) == StockResult.SUCCESS) {
+                            success++;
+                        }
+                    }
+                    successCount.addAndGet(success);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return elapsedTime;
+    }
+}
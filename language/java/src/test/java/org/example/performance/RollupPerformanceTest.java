@@ -0,0 +1,167 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockStrategy;
+import org.example.rollup.StockRollup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 집계 성능 비교 - 극한 경합 (500 threads)
+ *
+ * 쓰기 비용 (상품 10,000개 중 임의 상품 증감):
+ * 1. 집계 없음
+ * 2. AtomicLong 부모: 같은 창고의 모든 변경이 부모 카운터 하나에서 직렬화
+ * 3. StockRollup: LongAdder 부모
+ *
+ * 읽기 비용: 창고 합계를 getQuantity() 합으로 구하는 경우 vs StockRollup 조회
+ */
+@DisplayName("[Performance] 카테고리 / 창고 재고 집계 (500 threads)")
+class RollupPerformanceTest {
+
+    private static final int THREADS = 500;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int PRODUCTS = 10_000;
+    private static final int WAREHOUSES = 4;
+    private static final int CATEGORIES = 25;
+    private static final int READS = 1_000;
+
+    @Test
+    @DisplayName("집계 방식별 쓰기 비용 / 창고 합계 조회 비용")
+    void 집계_비용() throws InterruptedException {
+        System.out.printf("%n========== 재고 집계 (%d threads, 상품 %,d개, 창고 %d × 카테고리 %d) ==========%n",
+            THREADS, PRODUCTS, WAREHOUSES, CATEGORIES);
+        System.out.println("┌──────────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 방식               │ 쓰기 (ns/op)   │ 창고 조회 (μs)  │");
+        System.out.println("├──────────────────┼──────────────┼──────────────┤");
+
+        run(products());   // JIT 워밍업
+
+        Stock[] plain = products();
+        double plainNanos = run(plain);
+        long scanNanos = scanWarehouse(plain);
+        printRow("집계 없음 (순회)", plainNanos, scanNanos);
+
+        Stock[] shared = products();
+        AtomicLong[] sharedWarehouses = new AtomicLong[WAREHOUSES];
+        for (int w = 0; w < WAREHOUSES; w++) {
+            sharedWarehouses[w] = new AtomicLong();
+        }
+        for (int i = 0; i < PRODUCTS; i++) {
+            AtomicLong parent = sharedWarehouses[warehouse(i)];
+            parent.addAndGet(shared[i].getQuantity());
+            shared[i].addStockListener((before, after) -> parent.addAndGet(after - before));
+        }
+        double sharedNanos = run(shared);
+        long sharedReadNanos = read(() -> sharedWarehouses[0].get());
+        printRow("AtomicLong 부모", sharedNanos, sharedReadNanos);
+
+        Stock[] rolledUp = products();
+        StockRollup rollup = new StockRollup();
+        for (int i = 0; i < PRODUCTS; i++) {
+            rollup.register(rolledUp[i], "W" + warehouse(i), "C" + (i % CATEGORIES));
+        }
+        double rollupNanos = run(rolledUp);
+        long rollupReadNanos = read(() -> rollup.getWarehouseTotal("W0"));
+        printRow("StockRollup", rollupNanos, rollupReadNanos);
+        System.out.println("└──────────────────┴──────────────┴──────────────┘");
+
+        // ✅ 증분 집계 = 상품별 수량 합
+        long expected = 0;
+        long total = 0;
+        for (int i = 0; i < PRODUCTS; i++) {
+            total += rolledUp[i].getQuantity();
+            expected += warehouse(i) == 0 ? rolledUp[i].getQuantity() : 0;
+        }
+        assertEquals(expected, rollup.getWarehouseTotal("W0"));
+        assertEquals(total, rollup.getTotal());
+    }
+
+    private Stock[] products() {
+        Stock[] products = new Stock[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            products[i] = StockStrategy.ATOMIC.create((long) i, "Item" + i, 1_000L, 1000L);
+        }
+        return products;
+    }
+
+    private int warehouse(int productIndex) {
+        return productIndex % WAREHOUSES;
+    }
+
+    interface Read {
+        long total();
+    }
+
+    private long read(Read read) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            sink += read.total();
+        }
+        long elapsed = (System.nanoTime() - start) / READS;
+        assertTrue(sink >= 0);
+        return elapsed;
+    }
+
+    private long scanWarehouse(Stock[] products) {
+        return read(() -> {
+            long total = 0;
+            for (int i = 0; i < PRODUCTS; i += WAREHOUSES) {
+                total += products[i].getQuantity();
+            }
+            return total;
+        });
+    }
+
+    /**
+     * 각 스레드가 임의 상품을 감소 2 : 증가 1 비율로 변경하고 연산당 경과 시간(ns)을 반환
+     */
+    private double run(Stock[] products) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        Stock product = products[random.nextInt(PRODUCTS)];
+                        if (j % 3 == 2) {
+                            product.increment(1);
+                        } else {
+                            product.tryDecrement(1);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return (double) elapsedTime / ((long) THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    private void printRow(String mode, double writeNanosPerOp, long readNanos) {
+        System.out.printf("│ %-16s │ %,12.1f │ %,12.2f │%n", mode, writeNanosPerOp, readNanos / 1_000.0);
+    }
+}
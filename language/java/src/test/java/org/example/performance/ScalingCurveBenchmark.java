@@ -0,0 +1,221 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스케일링 곡선 벤치마크 매트릭스
+ *
+ * 전략 × 스레드 수(1 → 2 × 코어 수, 2배씩) × 초기 재고 크기 조합마다
+ * 일정 시간 동안 tryDecrement를 반복하고 처리량(ops/s)과 p99 지연을 측정합니다.
+ * 재고가 바닥나면 해당 스레드가 초기 재고만큼 다시 채우므로, 작은 재고는 경계 경합을 함께 측정합니다.
+ * 점마다 워밍업 1회 후 runs회 측정하고 처리량 / p99 각각의 중앙값을 기록하여 한 번 튄 측정이 결과를 좌우하지 않게 합니다.
+ *
+ * 결과는 JSON으로 저장하여 커밋 간 비교(ScalingRegressionTest)에 사용합니다.
+ */
+public class ScalingCurveBenchmark {
+
+    private static final int SAMPLE_INTERVAL = 8;       // 8번 연산마다 지연 1회 기록
+    private static final int MAX_SAMPLES_PER_THREAD = 50_000;
+
+    /**
+     * 측정 결과 한 점
+     */
+    static class Point {
+        final StockStrategy strategy;
+        final int threads;
+        final long stock;
+        final double throughput;
+        final long p99Nanos;
+
+        Point(StockStrategy strategy, int threads, long stock, double throughput, long p99Nanos) {
+            this.strategy = strategy;
+            this.threads = threads;
+            this.stock = stock;
+            this.throughput = throughput;
+            this.p99Nanos = p99Nanos;
+        }
+
+        String key() {
+            return strategy + "/" + threads + "/" + stock;
+        }
+    }
+
+    private final long[] stockSizes;
+    private final long warmupMillis;
+    private final long measurementMillis;
+    private final int runs;
+
+    ScalingCurveBenchmark(long[] stockSizes, long warmupMillis, long measurementMillis, int runs) {
+        if (runs < 1) {
+            throw new IllegalArgumentException("측정 횟수는 1 이상이어야 합니다: " + runs);
+        }
+        this.stockSizes = stockSizes;
+        this.warmupMillis = warmupMillis;
+        this.measurementMillis = measurementMillis;
+        this.runs = runs;
+    }
+
+    /**
+     * 1, 2, 4, ... 2 × 코어 수 (마지막 값은 항상 포함)
+     */
+    static int[] threadCounts(int cores) {
+        int max = 2 * cores;
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < max; threads <<= 1) {
+            counts.add(threads);
+        }
+        counts.add(max);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    List<Point> run(int cores) throws InterruptedException {
+        List<Point> points = new ArrayList<>();
+        for (StockStrategy strategy : StockStrategy.values()) {
+            for (int threads : threadCounts(cores)) {
+                for (long stock : stockSizes) {
+                    measure(strategy, threads, stock, warmupMillis);
+                    double[] throughputs = new double[runs];
+                    long[] p99s = new long[runs];
+                    for (int run = 0; run < runs; run++) {
+                        Point sample = measure(strategy, threads, stock, measurementMillis);
+                        throughputs[run] = sample.throughput;
+                        p99s[run] = sample.p99Nanos;
+                    }
+                    Arrays.sort(throughputs);
+                    Arrays.sort(p99s);
+                    Point point = new Point(strategy, threads, stock, throughputs[runs / 2], p99s[runs / 2]);
+                    System.out.printf("[%-13s] threads=%3d, stock=%,10d → %,14.0f ops/s, p99=%,8d ns (중앙값, %d회, 처리량 %,.0f~%,.0f)%n",
+                        strategy, threads, stock, point.throughput, point.p99Nanos,
+                        runs, throughputs[0], throughputs[runs - 1]);
+                    points.add(point);
+                }
+            }
+        }
+        return points;
+    }
+
+    private Point measure(StockStrategy strategy, int threads, long stock, long durationMillis)
+            throws InterruptedException {
+        Stock product = strategy.create(1L, "Item", stock, 1000L);
+        long[][] samples = new long[threads][MAX_SAMPLES_PER_THREAD];
+        int[] sampleCounts = new int[threads];
+        long[] operations = new long[threads];
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threads);
+        StopFlag stop = new StopFlag();
+
+        for (int i = 0; i < threads; i++) {
+            final int threadIndex = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    startLatch.await();
+                    long[] threadSamples = samples[threadIndex];
+                    int sampleCount = 0;
+                    long count = 0;
+                    while (!stop.stopped) {
+                        long start = System.nanoTime();
+                        if (product.tryDecrement(1) == StockResult.INSUFFICIENT_STOCK) {
+                            product.increment(stock);
+                        }
+                        long latency = System.nanoTime() - start;
+                        if (++count % SAMPLE_INTERVAL == 0 && sampleCount < threadSamples.length) {
+                            threadSamples[sampleCount++] = latency;
+                        }
+                    }
+                    operations[threadIndex] = count;
+                    sampleCounts[threadIndex] = sampleCount;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        Thread.sleep(durationMillis);
+        stop.stopped = true;
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+
+        long totalOperations = Arrays.stream(operations).sum();
+        double throughput = totalOperations * 1_000_000_000.0 / elapsedTime;
+        return new Point(strategy, threads, stock, throughput, p99(samples, sampleCounts));
+    }
+
+    private static long p99(long[][] samples, int[] sampleCounts) {
+        int total = Arrays.stream(sampleCounts).sum();
+        if (total == 0) {
+            return 0;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (int i = 0; i < samples.length; i++) {
+            System.arraycopy(samples[i], 0, merged, offset, sampleCounts[i]);
+            offset += sampleCounts[i];
+        }
+        Arrays.sort(merged);
+        return merged[(int) Math.min(total - 1, Math.ceil(total * 0.99) - 1)];
+    }
+
+    private static class StopFlag {
+        volatile boolean stopped;
+    }
+
+    // ===== JSON 저장 / 로드 (외부 라이브러리 없이 고정된 형식만 지원) =====
+
+    static void writeJson(Path path, int cores, List<Point> points) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"cores\": ").append(cores).append(",\n");
+        json.append("  \"points\": [\n");
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            json.append(String.format(Locale.ROOT,
+                "    {\"strategy\": \"%s\", \"threads\": %d, \"stock\": %d, \"throughput\": %.1f, \"p99Nanos\": %d}",
+                point.strategy, point.threads, point.stock, point.throughput, point.p99Nanos));
+            json.append(i < points.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("  ]\n");
+        json.append("}\n");
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, json.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static final Pattern POINT_PATTERN = Pattern.compile(
+        "\\{\\s*\"strategy\":\\s*\"(\\w+)\",\\s*\"threads\":\\s*(\\d+),\\s*\"stock\":\\s*(\\d+),"
+            + "\\s*\"throughput\":\\s*([\\d.]+),\\s*\"p99Nanos\":\\s*(\\d+)\\s*}");
+
+    static List<Point> readJson(Path path) throws IOException {
+        String json = Files.readString(path, StandardCharsets.UTF_8);
+        List<Point> points = new ArrayList<>();
+        Matcher matcher = POINT_PATTERN.matcher(json);
+        while (matcher.find()) {
+            points.add(new Point(
+                StockStrategy.valueOf(matcher.group(1)),
+                Integer.parseInt(matcher.group(2)),
+                Long.parseLong(matcher.group(3)),
+                Double.parseDouble(matcher.group(4)),
+                Long.parseLong(matcher.group(5))));
+        }
+        return points;
+    }
+}
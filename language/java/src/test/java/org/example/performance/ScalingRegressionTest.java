@@ -0,0 +1,179 @@
+package org.example.performance;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스케일링 곡선 회귀 검사
+ *
+ * ScalingCurveBenchmark 결과를 build/reports/scaling/scaling-curves.json으로 저장하고,
+ * 기준선(src/test/resources/performance/scaling-baseline-cpu{N}.json)과 비교합니다.
+ * 처리량이 허용치 이상 떨어지거나 p99가 허용치 이상 늘어난 점이 있으면 실패합니다.
+ * 기준선 파일은 scaling.updateBaseline을 지정했을 때만 기록합니다.
+ *
+ * 같은 코어 수의 기준선이 없으면 코어 수가 가장 가까운 기준선을 사용하되, 절대값 대신 곡선의 모양을 비교합니다.
+ * 기준선의 각 점을 같은 전략 / 재고의 1스레드 점 대비 비율로 바꾼 뒤, 이번 측정의 1스레드 점에 곱해
+ * 이 머신에서의 기대값으로 환산합니다. 양쪽 모두에 있는 스레드 수만 비교하며, 기준선이 하나도 없으면 건너뜁니다(aborted).
+ *
+ * 실행: ./gradlew scalingBenchmark
+ * 기준선 갱신: ./gradlew scalingBenchmark -Dscaling.updateBaseline=true
+ *
+ * 시스템 프로퍼티:
+ * - scaling.throughputTolerance: 허용 처리량 감소 비율 (기본 0.3 = 30%)
+ * - scaling.p99Tolerance: 허용 p99 증가 비율 (기본 1.0 = 2배)
+ * - scaling.p99FloorNanos: 이보다 작은 p99 증가는 측정 오차로 무시 (기본 1,000ns)
+ * - scaling.stockSizes: 초기 재고 크기 목록 (기본 100,1000000)
+ * - scaling.warmupMillis / scaling.measurementMillis: 점당 워밍업 / 측정 시간 (기본 100 / 500ms)
+ * - scaling.runs: 점당 측정 횟수, 중앙값을 사용 (기본 3)
+ */
+@Tag("scaling")
+@DisplayName("[Performance] 스케일링 곡선 회귀 검사")
+class ScalingRegressionTest {
+
+    @Test
+    @DisplayName("전략 × 스레드 수 × 재고 크기 스케일링 곡선이 기준선 대비 회귀하지 않음")
+    void 스케일링_곡선_회귀_검사() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        double throughputTolerance = Double.parseDouble(System.getProperty("scaling.throughputTolerance", "0.3"));
+        double p99Tolerance = Double.parseDouble(System.getProperty("scaling.p99Tolerance", "1.0"));
+        long p99FloorNanos = Long.parseLong(System.getProperty("scaling.p99FloorNanos", "1000"));
+        long[] stockSizes = Arrays.stream(System.getProperty("scaling.stockSizes", "100,1000000").split(","))
+            .map(String::trim)
+            .mapToLong(Long::parseLong)
+            .toArray();
+        long warmupMillis = Long.parseLong(System.getProperty("scaling.warmupMillis", "100"));
+        long measurementMillis = Long.parseLong(System.getProperty("scaling.measurementMillis", "500"));
+        int runs = Integer.parseInt(System.getProperty("scaling.runs", "3"));
+
+        System.out.printf("%n========== 스케일링 곡선 (%d cores, threads %s) ==========%n",
+            cores, Arrays.toString(ScalingCurveBenchmark.threadCounts(cores)));
+        List<ScalingCurveBenchmark.Point> current =
+            new ScalingCurveBenchmark(stockSizes, warmupMillis, measurementMillis, runs).run(cores);
+
+        Path report = Paths.get(System.getProperty("scaling.reportDir", "build/reports/scaling"), "scaling-curves.json");
+        ScalingCurveBenchmark.writeJson(report, cores, current);
+        System.out.println("결과 저장: " + report.toAbsolutePath());
+
+        Path baselineDir = Paths.get(System.getProperty("scaling.baselineDir", "src/test/resources/performance"));
+        if (Boolean.getBoolean("scaling.updateBaseline")) {
+            Path baseline = baselineDir.resolve(baselineFileName(cores));
+            ScalingCurveBenchmark.writeJson(baseline, cores, current);
+            System.out.println("기준선 저장: " + baseline.toAbsolutePath() + " (커밋하여 이후 비교에 사용)");
+            return;
+        }
+        int baselineCores = nearestBaselineCores(baselineDir, cores);
+        if (baselineCores < 0) {
+            Assumptions.abort(String.format(
+                "기준선이 없어 비교를 건너뜀: %s (-Dscaling.updateBaseline=true로 생성 후 커밋)",
+                baselineDir.toAbsolutePath()));
+        }
+        Path baseline = baselineDir.resolve(baselineFileName(baselineCores));
+        boolean projected = baselineCores != cores;
+        System.out.println(projected
+            ? String.format("%d코어 기준선이 없어 %d코어 기준선을 1스레드 점 기준으로 환산하여 비교: %s",
+                cores, baselineCores, baseline.toAbsolutePath())
+            : "기준선: " + baseline.toAbsolutePath());
+
+        Map<String, ScalingCurveBenchmark.Point> expected = new HashMap<>();
+        for (ScalingCurveBenchmark.Point point : ScalingCurveBenchmark.readJson(baseline)) {
+            expected.put(point.key(), point);
+        }
+        Map<String, ScalingCurveBenchmark.Point> measured = new HashMap<>();
+        for (ScalingCurveBenchmark.Point point : current) {
+            measured.put(point.key(), point);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (ScalingCurveBenchmark.Point point : current) {
+            ScalingCurveBenchmark.Point base = expected.get(point.key());
+            if (base == null) {
+                System.out.println("기준선에 없는 점 (비교 생략): " + point.key());
+                continue;
+            }
+            double expectedThroughput = base.throughput;
+            long expectedP99 = base.p99Nanos;
+            if (projected) {
+                if (point.threads == 1) {
+                    continue;   // 환산 기준점이므로 비교 대상이 아님
+                }
+                ScalingCurveBenchmark.Point baseAnchor = expected.get(anchorKey(point));
+                ScalingCurveBenchmark.Point anchor = measured.get(anchorKey(point));
+                if (baseAnchor == null || anchor == null || baseAnchor.throughput == 0) {
+                    System.out.println("1스레드 기준점이 없어 비교 생략: " + point.key());
+                    continue;
+                }
+                expectedThroughput = anchor.throughput * (base.throughput / baseAnchor.throughput);
+                expectedP99 = baseAnchor.p99Nanos == 0
+                    ? base.p99Nanos
+                    : Math.round(anchor.p99Nanos * ((double) base.p99Nanos / baseAnchor.p99Nanos));
+            }
+            if (point.throughput < expectedThroughput * (1.0 - throughputTolerance)) {
+                regressions.add(String.format("%s 처리량 %,.0f → %,.0f ops/s (%.1f%%)",
+                    point.key(), expectedThroughput, point.throughput,
+                    (point.throughput / expectedThroughput - 1.0) * 100));
+            }
+            if (point.p99Nanos > expectedP99 * (1.0 + p99Tolerance)
+                    && point.p99Nanos - expectedP99 > p99FloorNanos) {
+                regressions.add(String.format("%s p99 %,d → %,d ns",
+                    point.key(), expectedP99, point.p99Nanos));
+            }
+        }
+
+        regressions.forEach(regression -> System.out.println("❌ " + regression));
+        assertTrue(regressions.isEmpty(), String.format(
+            "기준선 대비 성능 회귀 %d건 (처리량 허용 감소 %.0f%%, p99 허용 증가 %.0f%%):%n%s",
+            regressions.size(), throughputTolerance * 100, p99Tolerance * 100, String.join("\n", regressions)));
+    }
+
+    private static String baselineFileName(int cores) {
+        return "scaling-baseline-cpu" + cores + ".json";
+    }
+
+    private static String anchorKey(ScalingCurveBenchmark.Point point) {
+        return point.strategy + "/1/" + point.stock;
+    }
+
+    /**
+     * 기준선 디렉터리에서 코어 수가 가장 가까운 기준선의 코어 수 (같은 거리면 작은 쪽, 없으면 -1)
+     */
+    static int nearestBaselineCores(Path baselineDir, int cores) throws IOException {
+        if (!Files.isDirectory(baselineDir)) {
+            return -1;
+        }
+        int nearest = -1;
+        try (Stream<Path> files = Files.list(baselineDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = BASELINE_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int candidate = Integer.parseInt(matcher.group(1));
+                if (nearest < 0
+                        || Math.abs(candidate - cores) < Math.abs(nearest - cores)
+                        || (Math.abs(candidate - cores) == Math.abs(nearest - cores) && candidate < nearest)) {
+                    nearest = candidate;
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static final Pattern BASELINE_FILE = Pattern.compile("scaling-baseline-cpu(\\d+)\\.json");
+}
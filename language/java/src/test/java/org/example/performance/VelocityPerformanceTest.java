@@ -0,0 +1,122 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.example.velocity.SalesVelocityTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 판매 속도 카운터의 감소 경로 추가 비용 - 극한 경합 (500 threads)
+ *
+ * 시나리오:
+ * 1. 단일 인기 상품: 모든 스레드가 같은 상품의 같은 버킷에 CAS
+ * 2. 상품 1,000개: 스레드가 임의 상품을 감소
+ *
+ * 각 시나리오에서 카운터 없음 / 있음의 연산당 시간과 top-K 조회 시간을 비교합니다.
+ */
+@DisplayName("[Performance] 판매 속도 카운터 (500 threads)")
+class VelocityPerformanceTest {
+
+    private static final int THREADS = 500;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int[] PRODUCT_COUNTS = {1, 1_000};
+    private static final int TOP_K_QUERIES = 100;
+
+    @Test
+    @DisplayName("전략별 카운터 없음 vs 있음: 감소 ns/op, top-10 조회 시간")
+    void 판매_속도_카운터_비용() throws InterruptedException {
+        System.out.printf("%n========== 판매 속도 카운터 (%d threads, 윈도우 1분 / 버킷 60개) ==========%n", THREADS);
+        System.out.println("┌─────────────────┬──────────┬──────────────┬──────────────┬──────────────┐");
+        System.out.println("│ 동기화 방식        │ 상품 수    │ 없음 (ns/op)   │ 있음 (ns/op)   │ top-10 (μs)  │");
+        System.out.println("├─────────────────┼──────────┼──────────────┼──────────────┼──────────────┤");
+
+        for (StockStrategy strategy : new StockStrategy[]{StockStrategy.SYNCHRONIZED, StockStrategy.EXPLICIT_LOCK, StockStrategy.ATOMIC}) {
+            for (int productCount : PRODUCT_COUNTS) {
+                Stock[] plain = products(strategy, productCount);
+                double plainNanos = run(plain, new AtomicLong());
+
+                Stock[] tracked = products(strategy, productCount);
+                SalesVelocityTracker tracker = new SalesVelocityTracker(productCount, 1, TimeUnit.MINUTES, 60);
+                for (int i = 0; i < productCount; i++) {
+                    tracker.register(i, tracked[i]);
+                }
+                AtomicLong successCount = new AtomicLong();
+                double trackedNanos = run(tracked, successCount);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < TOP_K_QUERIES; i++) {
+                    assertFalse(tracker.topK(10).isEmpty());
+                }
+                double topKMicros = (System.nanoTime() - start) / 1_000.0 / TOP_K_QUERIES;
+
+                System.out.printf("│ %-15s │ %,8d │ %,12.1f │ %,12.1f │ %,12.1f │%n",
+                    strategy, productCount, plainNanos, trackedNanos, topKMicros);
+
+                // ✅ 기록된 판매 수량 = 성공한 감소 수
+                long recorded = 0;
+                for (int i = 0; i < productCount; i++) {
+                    recorded += tracker.getUnitsInWindow(i);
+                }
+                assertEquals(successCount.get(), recorded, strategy + ": 판매 기록 누락");
+            }
+        }
+        System.out.println("└─────────────────┴──────────┴──────────────┴──────────────┴──────────────┘");
+    }
+
+    private Stock[] products(StockStrategy strategy, int productCount) {
+        Stock[] products = new Stock[productCount];
+        long perProduct = (long) THREADS * OPERATIONS_PER_THREAD / productCount;
+        for (int i = 0; i < productCount; i++) {
+            products[i] = strategy.create((long) i, "Item" + i, perProduct, 1000L);
+        }
+        return products;
+    }
+
+    /**
+     * 임의 상품 감소를 반복하고 연산당 경과 시간(ns)을 반환
+     */
+    private double run(Stock[] products, AtomicLong successCount) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long success = 0;
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        if (products[random.nextInt(products.length)].tryDecrement(1) == StockResult.SUCCESS) {
+                            success++;
+                        }
+                    }
+                    successCount.addAndGet(success);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return (double) elapsedTime / ((long) THREADS * OPERATIONS_PER_THREAD);
+    }
+}
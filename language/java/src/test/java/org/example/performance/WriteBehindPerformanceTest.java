@@ -0,0 +1,204 @@
+package org.example.performance;
+
+import org.example.Stock;
+import org.example.StockListener;
+import org.example.StockResult;
+import org.example.persistence.InMemoryStockStore;
+import org.example.persistence.StockStoreException;
+import org.example.persistence.WriteBehindStock;
+import org.example.persistence.WriteBehindWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * write-behind 영속화 decrement 지연 비교
+ *
+ * 비교 대상 (저장소 호출당 지연 100μs 가정):
+ * 1. 영속화 없음 (메모리 Product만)
+ * 2. write-behind (상품별 합치기 + 배치 반영)
+ * 3. 동기 기록 (decrement마다 저장소 호출)
+ */
+@DisplayName("[Performance] write-behind 영속화 decrement 지연")
+class WriteBehindPerformanceTest {
+
+    private static final int THREADS = 50;
+    private static final int OPERATIONS_PER_THREAD = 1_000;
+    private static final long STORE_LATENCY_MICROS = 100;
+
+    static class LatencyResult {
+        final long elapsedTimeNanos;
+        final long[] sortedLatencies;
+
+        LatencyResult(long elapsedTimeNanos, long[] sortedLatencies) {
+            this.elapsedTimeNanos = elapsedTimeNanos;
+            this.sortedLatencies = sortedLatencies;
+        }
+
+        long percentile(double percentile) {
+            return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.ceil(sortedLatencies.length * percentile) - 1)];
+        }
+    }
+
+    @Test
+    @DisplayName("AtomicLong - 영속화 방식별 decrement 지연 (50 threads)")
+    void 영속화_방식별_지연_비교() throws Exception {
+        long initialStock = (long) THREADS * OPERATIONS_PER_THREAD;
+
+        System.out.printf("%n========== write-behind 영속화 (%d threads, 저장소 지연 %dμs) ==========%n",
+            THREADS, STORE_LATENCY_MICROS);
+
+        LatencyResult plain = run(new org.example.atomic.Product(1L, "Item", initialStock, 1000L));
+        print("영속화 없음", plain);
+
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, initialStock);
+        store.setLatency(STORE_LATENCY_MICROS, TimeUnit.MICROSECONDS);
+        Stock writeBehind;
+        LatencyResult behind;
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 1_000, 10, 1_000, TimeUnit.MILLISECONDS)) {
+            writeBehind = new WriteBehindStock(1L, new org.example.atomic.Product(1L, "Item", initialStock, 1000L), writer);
+            behind = run(writeBehind);
+            assertTrue(writer.flush(), "남은 변경이 모두 반영되어야 함");
+            print("write-behind", behind);
+            System.out.printf("  → 저장소 배치 호출: %,d회 (decrement %,d회)%n", store.getBatchCount(), initialStock);
+        }
+        assertEquals(writeBehind.getQuantity(), store.getQuantity(1L), "저장소와 메모리 재고가 일치해야 함");
+
+        InMemoryStockStore syncStore = new InMemoryStockStore();
+        syncStore.put(1L, initialStock);
+        syncStore.setLatency(STORE_LATENCY_MICROS, TimeUnit.MICROSECONDS);
+        Stock synchronous = new SynchronousStoreStock(new org.example.atomic.Product(1L, "Item", initialStock, 1000L), syncStore);
+        LatencyResult sync = run(synchronous);
+        print("동기 기록", sync);
+        assertEquals(synchronous.getQuantity(), syncStore.getQuantity(1L));
+
+        assertTrue(behind.percentile(0.50) < sync.percentile(0.50),
+            "write-behind의 중앙값 지연은 동기 기록보다 작아야 함");
+    }
+
+    private LatencyResult run(Stock product) throws InterruptedException {
+        long[][] latencies = new long[THREADS][OPERATIONS_PER_THREAD];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            final int threadIndex = i;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        long start = System.nanoTime();
+                        product.decrement(1);
+                        latencies[threadIndex][j] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        return new LatencyResult(elapsedTime, Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray());
+    }
+
+    private void print(String mode, LatencyResult result) {
+        long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("[%-12s] %,12d ops/s | p50: %,10d ns, p99: %,10d ns%n",
+            mode, operations * 1_000_000_000L / result.elapsedTimeNanos, result.percentile(0.50), result.percentile(0.99));
+    }
+
+    /**
+     * decrement마다 저장소에 동기 기록하는 비교 대상
+     */
+    private static class SynchronousStoreStock implements Stock {
+        private final Stock delegate;
+        private final InMemoryStockStore store;
+
+        SynchronousStoreStock(Stock delegate, InMemoryStockStore store) {
+            this.delegate = delegate;
+            this.store = store;
+        }
+
+        @Override
+        public void increment(long quantity) {
+            delegate.increment(quantity);
+            write(quantity);
+        }
+
+        @Override
+        public boolean decrement(long quantity) {
+            if (delegate.decrement(quantity)) {
+                write(-quantity);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int tryDecrement(long quantity) {
+            int result = delegate.tryDecrement(quantity);
+            if (result == StockResult.SUCCESS) {
+                write(-quantity);
+            }
+            return result;
+        }
+
+        @Override
+        public int tryDecrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+            int result = delegate.tryDecrement(quantity, timeout, unit);
+            if (result == StockResult.SUCCESS) {
+                write(-quantity);
+            }
+            return result;
+        }
+
+        @Override
+        public int tryIncrement(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+            int result = delegate.tryIncrement(quantity, timeout, unit);
+            if (result == StockResult.SUCCESS) {
+                write(quantity);
+            }
+            return result;
+        }
+
+        @Override
+        public long getQuantity() {
+            return delegate.getQuantity();
+        }
+
+        @Override
+        public void addStockListener(StockListener listener) {
+            delegate.addStockListener(listener);
+        }
+
+        @Override
+        public boolean removeStockListener(StockListener listener) {
+            return delegate.removeStockListener(listener);
+        }
+
+        private void write(long delta) {
+            try {
+                store.applyDeltas(new long[]{1L}, new long[]{delta}, 1);
+            } catch (StockStoreException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.persistence;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[persistence] write-behind 영속화 테스트")
+class WriteBehindStockTest {
+
+    @Test
+    @DisplayName("[write-behind] 상품별 증감량이 합쳐져 적은 배치로 반영")
+    void 증감량_합치기() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, 1000L);
+
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 100, 10, 60, TimeUnit.SECONDS)) {
+            Stock product = new WriteBehindStock(1L, new org.example.atomic.Product(1L, "MacBook", 1000L, 2000000L), writer);
+            for (int i = 0; i < 1000; i++) {
+                product.decrement(1);
+            }
+            assertEquals(1000L, store.getQuantity(1L), "flush 전에는 저장소가 변경되지 않아야 함");
+
+            assertTrue(writer.flush());
+            assertEquals(0L, store.getQuantity(1L));
+            assertEquals(1L, store.getBatchCount(), "1000번의 감소가 한 번의 배치로 합쳐져야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("[write-behind] dirty 상품 수가 batchSize에 도달하면 자동 반영")
+    void 크기_트리거() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 10, 10, 60, TimeUnit.SECONDS)) {
+            for (long id = 0; id < 10; id++) {
+                new WriteBehindStock(id, new org.example.synchronization.Product(id, "Item", 0L, 1000L), writer).increment(5);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (store.getBatchCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1L, store.getBatchCount(), "flushInterval(10초) 전에 크기 트리거로 반영되어야 함");
+            assertEquals(5L, store.getQuantity(9L));
+        }
+    }
+
+    @Test
+    @DisplayName("[write-behind] 저장소 장애 중에도 갱신이 유실되지 않음")
+    void 장애_복구() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, 100L);
+
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 100, 10, 60_000, TimeUnit.MILLISECONDS)) {
+            Stock product = new WriteBehindStock(1L, new org.example.explicitlock.Product(1L, "MacBook", 100L, 2000000L), writer);
+
+            store.setAvailable(false);
+            for (int i = 0; i < 30; i++) {
+                product.decrement(1);
+            }
+            assertFalse(writer.flush(), "장애 중에는 반영 실패");
+            product.increment(5);
+            assertTrue(store.getFailedBatchCount() > 0);
+
+            store.setAvailable(true);
+            assertTrue(writer.flush(), "복구 후 반영 성공");
+            assertEquals(product.getQuantity(), store.getQuantity(1L), "장애 중 변경이 모두 반영되어야 함");
+            assertEquals(75L, store.getQuantity(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("[write-behind] 저장소 장애 중에는 지수 백오프로 재시도 횟수 제한")
+    void 장애_중_백오프() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.setAvailable(false);
+
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 1, 10, 60_000, TimeUnit.MILLISECONDS)) {
+            Stock[] products = new Stock[16];
+            for (int i = 0; i < products.length; i++) {
+                store.put(i, 1_000_000L);
+                products[i] = new WriteBehindStock(i, new org.example.atomic.Product((long) i, "Item", 1_000_000L, 1000L), writer);
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (System.nanoTime() < deadline) {
+                for (Stock product : products) {
+                    product.decrement(1);
+                }
+            }
+
+            // 백오프 10ms → 20 → 40 → ... → 1s: 2초 동안 실패한 저장소 호출은 수십 번 이내
+            long failed = store.getFailedBatchCount();
+            assertTrue(failed > 0, "장애 중에도 반영을 시도해야 함");
+            assertTrue(failed < 50, "백오프 중에는 쓰기가 flusher를 깨워도 저장소 호출이 억제되어야 함: " + failed);
+
+            store.setAvailable(true);
+            assertTrue(writer.flush(), "복구 후 반영 성공");
+            for (int i = 0; i < products.length; i++) {
+                assertEquals(products[i].getQuantity(), store.getQuantity(i), "장애 중 변경이 모두 반영되어야 함");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("[write-behind] 장애 중 close하면 반영하지 못한 변경을 예외로 알림")
+    void 장애_중_종료() {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, 100L);
+        store.setAvailable(false);
+
+        WriteBehindWriter writer = new WriteBehindWriter(store, 100, 10, 60_000, TimeUnit.MILLISECONDS);
+        Stock product = new WriteBehindStock(1L, new org.example.atomic.Product(1L, "MacBook", 100L, 2000000L), writer);
+        product.decrement(1);
+
+        assertThrows(StockStoreException.class, writer::close);
+    }
+
+    @Test
+    @DisplayName("[write-behind] 반영이 maxLag 이상 밀리면 쓰기 스레드가 대기")
+    void 지연_상한() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, 100L);
+        store.setAvailable(false);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 100, 10, 50, TimeUnit.MILLISECONDS)) {
+            Stock product = new WriteBehindStock(1L, new org.example.atomic.Product(1L, "MacBook", 100L, 2000000L), writer);
+            product.decrement(1);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!writer.isLagging() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(writer.isLagging(), "장애가 maxLag(50ms) 이상 지속되면 lagging 상태여야 함");
+
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> blocked = executor.submit(() -> {
+                started.countDown();
+                return product.decrement(1);
+            });
+            started.await();
+            Thread.sleep(100);
+            assertFalse(blocked.isDone(), "lagging 중에는 쓰기가 대기해야 함");
+
+            store.setAvailable(true);
+            assertTrue(blocked.get(5, TimeUnit.SECONDS), "저장소 복구 후 대기 중인 쓰기가 진행되어야 함");
+            assertTrue(writer.flush());
+            assertEquals(98L, store.getQuantity(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("[write-behind] lagging 중 timed 연산은 제한 시간 후 TIMED_OUT, 재고 변경 없음")
+    void 지연_상한_중_제한_시간() throws Exception {
+        InMemoryStockStore store = new InMemoryStockStore();
+        store.put(1L, 100L);
+        store.setAvailable(false);
+
+        try (WriteBehindWriter writer = new WriteBehindWriter(store, 100, 10, 50, TimeUnit.MILLISECONDS)) {
+            Stock product = new WriteBehindStock(1L, new org.example.atomic.Product(1L, "MacBook", 100L, 2000000L), writer);
+            product.decrement(1);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!writer.isLagging() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(writer.isLagging());
+
+            long start = System.nanoTime();
+            assertEquals(StockResult.TIMED_OUT, product.tryDecrement(1, 20, TimeUnit.MILLISECONDS));
+            assertEquals(StockResult.TIMED_OUT, product.tryIncrement(1, 20, TimeUnit.MILLISECONDS));
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(waitedMillis < 1_000, "제한 시간 안에 반환해야 함: " + waitedMillis + "ms");
+            assertEquals(99L, product.getQuantity(), "시간 초과된 연산은 반영되지 않아야 함");
+
+            Thread.currentThread().interrupt();
+            assertThrows(InterruptedException.class, () -> product.tryDecrement(1, 1, TimeUnit.SECONDS));
+
+            store.setAvailable(true);
+            assertEquals(StockResult.SUCCESS, product.tryDecrement(1, 5, TimeUnit.SECONDS));
+            assertTrue(writer.flush());
+            assertEquals(98L, store.getQuantity(1L));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.rollup;
+
+import org.example.Stock;
+import org.example.StockStrategy;
+import org.example.feed.StockChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[rollup] 카테고리 / 창고 재고 집계 테스트")
+class StockRollupTest {
+
+    @Test
+    @DisplayName("상품 변경이 카테고리 → 창고 → 전체로 반영")
+    void 계층_집계() {
+        StockRollup rollup = new StockRollup();
+        Stock macBook = StockStrategy.ATOMIC.create(1L, "MacBook", 10L, 2000000L);
+        Stock iPad = StockStrategy.ATOMIC.create(2L, "iPad", 20L, 1000000L);
+        Stock chair = StockStrategy.EXPLICIT_LOCK.create(3L, "Chair", 5L, 100000L);
+        Stock desk = StockStrategy.SYNCHRONIZED.create(4L, "Desk", 7L, 300000L);
+        rollup.register(macBook, "Seoul", "Electronics");
+        rollup.register(iPad, "Seoul", "Electronics");
+        rollup.register(chair, "Seoul", "Furniture");
+        rollup.register(desk, "Busan", "Furniture");
+
+        macBook.decrement(3);
+        iPad.increment(5);
+        chair.decrement(10);   // 재고 부족: 변경 없음
+        desk.decrement(7);
+
+        assertEquals(32L, rollup.getCategoryTotal("Seoul", "Electronics"));
+        assertEquals(5L, rollup.getCategoryTotal("Seoul", "Furniture"));
+        assertEquals(0L, rollup.getCategoryTotal("Busan", "Furniture"));
+        assertEquals(37L, rollup.getWarehouseTotal("Seoul"));
+        assertEquals(0L, rollup.getWarehouseTotal("Busan"));
+        assertEquals(37L, rollup.getTotal());
+        assertEquals(0L, rollup.getWarehouseTotal("Daegu"), "미등록 창고는 0");
+    }
+
+    @Test
+    @DisplayName("같은 상품을 변경 스트림에도 등록 → 스트림을 닫아도 집계 리스너는 유지")
+    void 변경_스트림과_함께_사용() {
+        StockRollup rollup = new StockRollup();
+        Stock macBook = StockStrategy.ATOMIC.create(1L, "MacBook", 10L, 2000000L);
+        rollup.register(macBook, "Seoul", "Electronics");
+
+        StockChangeFeed feed = new StockChangeFeed(4);
+        feed.register(1L, macBook);
+        macBook.decrement(3);
+        assertEquals(7L, rollup.getTotal(), "스트림 등록이 집계 리스너를 덮어쓰지 않아야 함");
+
+        feed.close();
+        macBook.decrement(2);
+        assertEquals(5L, rollup.getTotal(), "스트림 종료는 스트림 리스너만 해제해야 함");
+    }
+
+    @Test
+    @DisplayName("해제하면 이 집계기의 리스너만 제거되고 합계에서 빠짐")
+    void 등록_해제() {
+        StockRollup rollup = new StockRollup();
+        StockRollup other = new StockRollup();
+        Stock macBook = StockStrategy.SYNCHRONIZED.create(1L, "MacBook", 10L, 2000000L);
+        rollup.register(macBook, "Seoul", "Electronics");
+        other.register(macBook, "Seoul", "Electronics");
+        assertThrows(IllegalStateException.class, () -> rollup.register(macBook, "Seoul", "Electronics"));
+
+        macBook.decrement(4);
+        assertTrue(rollup.unregister(macBook));
+        assertFalse(rollup.unregister(macBook));
+        macBook.decrement(1);
+
+        assertEquals(0L, rollup.getTotal());
+        assertEquals(0L, rollup.getCategoryTotal("Seoul", "Electronics"));
+        assertEquals(5L, other.getTotal(), "다른 집계기의 리스너는 유지");
+    }
+
+    @Test
+    @DisplayName("[LongAdder ✅] 100개 스레드가 동시에 변경 → 집계 = 상품 수량 합")
+    void 동시_변경_집계_일치() throws InterruptedException {
+        StockRollup rollup = new StockRollup();
+        Stock[] products = new Stock[40];
+        for (int i = 0; i < products.length; i++) {
+            products[i] = StockStrategy.ATOMIC.create((long) i, "Item" + i, 1_000L, 1000L);
+            rollup.register(products[i], "W" + (i % 2), "C" + (i % 4));
+        }
+        int threadCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 1_000; j++) {
+                        Stock product = products[random.nextInt(products.length)];
+                        if (random.nextInt(3) == 0) {
+                            product.increment(1);
+                        } else {
+                            product.decrement(1);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        long total = 0;
+        long warehouse0 = 0;
+        long category1 = 0;
+        for (int i = 0; i < products.length; i++) {
+            long quantity = products[i].getQuantity();
+            total += quantity;
+            warehouse0 += i % 2 == 0 ? quantity : 0;
+            category1 += i % 4 == 1 ? quantity : 0;
+        }
+        assertEquals(total, rollup.getTotal());
+        assertEquals(warehouse0, rollup.getWarehouseTotal("W0"));
+        assertEquals(category1, rollup.getCategoryTotal("W1", "C1"));
+    }
+}
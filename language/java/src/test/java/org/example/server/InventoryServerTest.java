@@ -0,0 +1,152 @@
+package org.example.server;
+
+import org.example.Stock;
+import org.example.StockResult;
+import org.example.StockStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[server] NIO 재고 서버 루프백 테스트")
+class InventoryServerTest {
+
+    @Test
+    @DisplayName("[server] 단건 increment / decrement / get")
+    void 단건_요청() throws Exception {
+        try (InventoryServer server = newServer(StockStrategy.ATOMIC, 2, 5L);
+             InventoryClient client = new InventoryClient(address(server))) {
+
+            assertEquals(StockResult.SUCCESS, client.decrement(0L, 3));
+            assertEquals(StockResult.INSUFFICIENT_STOCK, client.decrement(0L, 3), "재고 2개에서 3개 감소는 실패");
+            assertEquals(StockResult.SUCCESS, client.increment(0L, 10));
+            assertEquals(12L, client.getQuantity(0L));
+            assertEquals(5L, client.getQuantity(1L), "다른 상품은 영향 없음");
+        }
+    }
+
+    @Test
+    @DisplayName("[server] 파이프라이닝 요청은 순서대로 응답")
+    void 파이프라이닝_순서_보장() throws Exception {
+        try (InventoryServer server = newServer(StockStrategy.SYNCHRONIZED, 1, 100L);
+             InventoryClient client = new InventoryClient(address(server))) {
+
+            for (int i = 0; i < 150; i++) {
+                client.sendDecrement(0L, 1);
+            }
+            client.sendGet(0L);
+            client.flush();
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(StockResult.SUCCESS, client.receive(), i + "번째 감소는 성공해야 함");
+            }
+            for (int i = 100; i < 150; i++) {
+                assertEquals(StockResult.INSUFFICIENT_STOCK, client.receive(), i + "번째 감소는 재고 부족이어야 함");
+            }
+            assertEquals(StockResult.SUCCESS, client.receive());
+            assertEquals(0L, client.getLastValue());
+        }
+    }
+
+    @Test
+    @DisplayName("[server] 알 수 없는 상품 / 잘못된 요청")
+    void 프로토콜_오류() throws Exception {
+        try (InventoryServer server = newServer(StockStrategy.EXPLICIT_LOCK, 1, 10L);
+             InventoryClient client = new InventoryClient(address(server))) {
+
+            assertEquals(InventoryProtocol.STATUS_UNKNOWN_PRODUCT, client.decrement(99L, 1));
+            assertEquals(InventoryProtocol.STATUS_BAD_REQUEST, client.decrement(0L, -1));
+
+            client.send((byte) 42, 0L, 1L);
+            client.flush();
+            assertEquals(InventoryProtocol.STATUS_BAD_REQUEST, client.receive());
+            assertEquals(10L, client.getQuantity(0L), "잘못된 요청은 재고를 변경하지 않아야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("[server] 요청 처리 중 예외가 나면 그 연결만 닫고 같은 워커의 다른 연결은 유지")
+    void 처리_예외_연결_격리() throws Exception {
+        LongFunction<Stock> catalog = InventoryServer.catalog(StockStrategy.ATOMIC, 1, 10L);
+        LongFunction<Stock> failing = productId -> {
+            if (productId == 7L) {
+                throw new IllegalStateException("상품 조회 실패");
+            }
+            return catalog.apply(productId);
+        };
+        try (InventoryServer server = new InventoryServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, failing);
+             InventoryClient healthy = new InventoryClient(address(server));
+             InventoryClient broken = new InventoryClient(address(server))) {
+
+            assertEquals(StockResult.SUCCESS, healthy.decrement(0L, 1));
+            assertThrows(IOException.class, () -> broken.decrement(7L, 1), "예외가 난 연결은 닫혀야 함");
+
+            assertEquals(StockResult.SUCCESS, healthy.decrement(0L, 1), "같은 워커의 기존 연결은 계속 동작");
+            try (InventoryClient next = new InventoryClient(address(server))) {
+                assertEquals(8L, next.getQuantity(0L), "워커가 새 연결도 계속 처리");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("[server] 여러 연결에서 동시에 감소해도 초과 판매 없음")
+    void 동시_연결_정확성() throws Exception {
+        int connections = 50;
+        int requestsPerConnection = 200;
+        long initialStock = 5_000L;
+
+        try (InventoryServer server = newServer(StockStrategy.ATOMIC, 1, initialStock)) {
+            ExecutorService executor = Executors.newFixedThreadPool(connections);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                results.add(executor.submit(() -> {
+                    int success = 0;
+                    try (InventoryClient client = new InventoryClient(address(server))) {
+                        for (int j = 0; j < requestsPerConnection; j++) {
+                            client.sendDecrement(0L, 1);
+                        }
+                        client.flush();
+                        for (int j = 0; j < requestsPerConnection; j++) {
+                            if (client.receive() == StockResult.SUCCESS) {
+                                success++;
+                            }
+                        }
+                    }
+                    return success;
+                }));
+            }
+
+            long successCount = 0;
+            for (Future<Integer> result : results) {
+                successCount += result.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            try (InventoryClient client = new InventoryClient(address(server))) {
+                assertEquals(initialStock, successCount, "재고만큼만 성공해야 함");
+                assertEquals(0L, client.getQuantity(0L));
+            }
+        }
+    }
+
+    private InventoryServer newServer(StockStrategy strategy, int productCount, long initialQuantity) throws Exception {
+        return new InventoryServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2,
+            InventoryServer.catalog(strategy, productCount, initialQuantity));
+    }
+
+    private InetSocketAddress address(InventoryServer server) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+}
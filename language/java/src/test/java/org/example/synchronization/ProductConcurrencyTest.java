@@ -1,5 +1,7 @@
 package org.example.synchronization;
 
+import org.example.StockListener;
+import org.example.StockResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,44 @@ class ProductConcurrencyTest {
         assertEquals(0L, product.getQuantity(), "100개 재고에서 100번 감소하면 0이어야 함");
     }
 
+    @Test
+    @DisplayName("[synchronized ✅] 모니터 획득 시점에 마감이 지났으면 TIMED_OUT, 재고 변경 없음")
+    void synchronized_제한_시간_초과() throws InterruptedException {
+        Product product = new Product(1L, "MacBook", 100L, 2000000L);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StockListener blocking = (before, after) -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        product.addStockListener(blocking);
+        Thread holder = new Thread(() -> product.increment(1));
+        holder.start();
+        holding.await();
+        product.removeStockListener(blocking);
+
+        // 모니터 대기는 끊을 수 없으므로 마감 이후에 holder를 풀어 줌
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        int result = product.tryDecrement(1, 20, TimeUnit.MILLISECONDS);
+        holder.join();
+        releaser.join();
+
+        assertEquals(StockResult.TIMED_OUT, result);
+        assertEquals(101L, product.getQuantity(), "시간 초과된 감소는 반영되지 않아야 함 (holder의 increment만 반영)");
+    }
+
     private long runConcurrentIncrement(Product product, int threadCount) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CountDownLatch startLatch = new CountDownLatch(1);
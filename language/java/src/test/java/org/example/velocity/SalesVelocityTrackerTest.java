@@ -0,0 +1,159 @@
+package org.example.velocity;
+
+import org.example.Stock;
+import org.example.StockStrategy;
+import org.example.rollup.StockRollup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[velocity] 슬라이딩 윈도우 판매 속도 테스트")
+class SalesVelocityTrackerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("성공한 감소만 기록되고 윈도우를 벗어난 버킷은 제외")
+    void 윈도우_슬라이딩() {
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 10, TimeUnit.SECONDS, 10, clock::get);
+        Stock product = StockStrategy.ATOMIC.create(1L, "MacBook", 100L, 2000000L);
+        tracker.register(1L, product);
+
+        product.decrement(3);
+        product.increment(50);        // 입고는 판매가 아님
+        product.decrement(1000);      // 재고 부족: 기록 없음
+        clock.addAndGet(5 * SECOND);
+        product.decrement(2);
+
+        assertEquals(5L, tracker.getUnitsInWindow(1L));
+        assertEquals(0.5, tracker.getUnitsPerSecond(1L), 1e-9);
+
+        clock.addAndGet(5 * SECOND);  // 첫 판매 버킷이 윈도우 밖으로
+        assertEquals(2L, tracker.getUnitsInWindow(1L));
+
+        clock.addAndGet(10 * SECOND);
+        assertEquals(0L, tracker.getUnitsInWindow(1L));
+
+        product.decrement(4);         // 한 바퀴 돈 버킷은 초기화 후 기록
+        assertEquals(4L, tracker.getUnitsInWindow(1L));
+    }
+
+    @Test
+    @DisplayName("같은 상품을 집계기와 판매 속도 카운터에 함께 등록 → 둘 다 갱신, 해제는 자기 리스너만")
+    void 집계기와_함께_사용() {
+        AtomicLong clock = new AtomicLong();
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 10, TimeUnit.SECONDS, 10, clock::get);
+        StockRollup rollup = new StockRollup();
+        Stock product = StockStrategy.EXPLICIT_LOCK.create(1L, "MacBook", 100L, 2000000L);
+        rollup.register(product, "Seoul", "Electronics");
+        tracker.register(1L, product);
+
+        product.decrement(7);
+        assertEquals(93L, rollup.getTotal(), "카운터 등록이 집계 리스너를 덮어쓰지 않아야 함");
+        assertEquals(7L, tracker.getUnitsInWindow(1L));
+
+        assertTrue(tracker.unregister(1L));
+        assertFalse(tracker.unregister(1L));
+        product.decrement(3);
+        assertEquals(90L, rollup.getTotal(), "카운터 해제 후에도 집계는 계속 갱신");
+        assertEquals(0L, tracker.getUnitsInWindow(1L));
+        assertTrue(tracker.topK(5).isEmpty(), "해제한 상품은 top-K에서 제외");
+    }
+
+    @Test
+    @DisplayName("[CAS ✅] 이전 버킷 번호로 늦게 도착한 기록은 새 버킷의 수량을 덮어쓰지 않음")
+    void 늦게_도착한_기록() {
+        AtomicLong clock = new AtomicLong(12 * SECOND);
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 2, TimeUnit.SECONDS, 2, clock::get);
+        Stock product = StockStrategy.ATOMIC.create(1L, "MacBook", 100L, 2000000L);
+        tracker.register(1L, product);
+
+        product.decrement(5);          // 버킷 번호 12
+        clock.set(10 * SECOND);        // 시계를 먼저 읽고 늦게 기록하는 스레드 (같은 링 위치의 버킷 번호 10)
+        product.decrement(3);
+        clock.set(12 * SECOND);
+
+        assertEquals(5L, tracker.getUnitsInWindow(1L), "새 버킷의 판매가 유실되지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("버킷 수량은 2^32 - 1에서 포화 (버킷 번호로 넘치지 않음)")
+    void 버킷_수량_포화() {
+        long max = 0xFFFF_FFFFL;
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 10, TimeUnit.SECONDS, 10, clock::get);
+        Stock product = StockStrategy.ATOMIC.create(1L, "Bolt", Long.MAX_VALUE / 2, 10L);
+        tracker.register(1L, product);
+
+        product.decrement(max - 1);
+        product.decrement(10);
+        assertEquals(max, tracker.getUnitsInWindow(1L), "합이 넘치면 최대값에서 포화");
+
+        clock.addAndGet(SECOND);
+        product.decrement(max + 5);
+        assertEquals(2 * max, tracker.getUnitsInWindow(1L), "한 번에 큰 수량도 잘리지 않고 최대값으로 기록");
+    }
+
+    @Test
+    @DisplayName("top-K는 판매 수량 내림차순, 판매 없는 상품 제외")
+    void 상위_상품_조회() {
+        AtomicLong clock = new AtomicLong();
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 60, TimeUnit.SECONDS, 6, clock::get);
+        Stock[] products = new Stock[5];
+        for (int i = 0; i < products.length; i++) {
+            products[i] = StockStrategy.ATOMIC.create((long) i, "Item" + i, 100L, 1000L);
+            tracker.register(i, products[i]);
+        }
+        products[3].decrement(30);
+        products[1].decrement(20);
+        products[4].decrement(10);
+        products[0].decrement(5);
+
+        List<HotItem> top = tracker.topK(3);
+        assertEquals(3, top.size());
+        assertEquals(3L, top.get(0).getProductId());
+        assertEquals(30L, top.get(0).getUnitsInWindow());
+        assertEquals(1L, top.get(1).getProductId());
+        assertEquals(4L, top.get(2).getProductId());
+        assertEquals(4, tracker.topK(10).size(), "판매 없는 상품은 제외");
+    }
+
+    @Test
+    @DisplayName("[CAS ✅] 100개 스레드가 동시에 감소 → 기록된 판매 수량 = 성공한 감소 수")
+    void 동시_기록_정확성() throws InterruptedException {
+        SalesVelocityTracker tracker = new SalesVelocityTracker(10, 1, TimeUnit.MINUTES, 60);
+        Stock product = StockStrategy.ATOMIC.create(1L, "MacBook", 50_000L, 2000000L);
+        tracker.register(1L, product);
+        int threadCount = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        product.tryDecrement(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        assertEquals(0L, product.getQuantity());
+        assertEquals(50_000L, tracker.getUnitsInWindow(1L));
+    }
+}